@@ -3,12 +3,18 @@ package com.rentalconnects.backend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.rentalconnects.backend.config.JwtConfig;
 
 @SpringBootApplication
 @EnableMongoRepositories
+@EnableMongoAuditing
+@EnableScheduling
+@EnableCaching
 @EnableConfigurationProperties(JwtConfig.class) // Enable JwtConfig properties
 public class RentalConnectsApplication {
     public static void main(String[] args) {
@@ -0,0 +1,51 @@
+package com.rentalconnects.backend.config;
+
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.rentalconnects.backend.service.CollectionVersionService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers conditional GETs on the public property list endpoints from the properties
+ * collection version before the handler runs. Every list response carries a weak ETag of
+ * that version, and a matching If-None-Match gets a 304 without running the query.
+ * Single-property reads use strong ETags in the controller instead.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConditionalGetInterceptor.class);
+
+    private static final Pattern PROPERTY_DETAIL = Pattern.compile("^/api/properties/[0-9a-fA-F]{24}$");
+
+    private final CollectionVersionService collectionVersionService;
+
+    public ConditionalGetInterceptor(CollectionVersionService collectionVersionService) {
+        this.collectionVersionService = collectionVersionService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || PROPERTY_DETAIL.matcher(request.getRequestURI()).matches()) {
+            return true;
+        }
+        long version;
+        try {
+            version = collectionVersionService.getVersion(CollectionVersionService.PROPERTIES);
+        } catch (RuntimeException e) {
+            logger.warn("[ConditionalGetInterceptor] Collection version unavailable, skipping ETag: {}", e.getMessage());
+            return true;
+        }
+        String etag = "W/\"" + CollectionVersionService.PROPERTIES + "-" + version + "\"";
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
@@ -0,0 +1,67 @@
+package com.rentalconnects.backend.config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.model.InboundWebhook;
+import com.rentalconnects.backend.model.Lease;
+import com.rentalconnects.backend.model.LeaseBalance;
+import com.rentalconnects.backend.model.LedgerEntry;
+import com.rentalconnects.backend.model.Payment;
+import com.rentalconnects.backend.model.PaystackWebhookEvent;
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.model.PropertyImportJob;
+import com.rentalconnects.backend.model.PropertyTombstone;
+import com.rentalconnects.backend.model.PropertyViewRollup;
+import com.rentalconnects.backend.model.SavedSearch;
+
+/**
+ * Creates the indexes declared on mapped entities at startup.
+ * Spring Boot leaves automatic index creation disabled, so entities whose queries
+ * depend on an index (text, geo, compound) are registered here explicitly.
+ */
+@Component
+public class MongoIndexConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexConfig.class);
+
+    private static final List<Class<?>> INDEXED_ENTITIES = List.of(Property.class, SavedSearch.class, PropertyViewRollup.class,
+            PropertyImportJob.class, Lease.class, Payment.class,
+            LedgerEntry.class, LeaseBalance.class, PaystackWebhookEvent.class,
+            InboundWebhook.class, PropertyTombstone.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    public MongoIndexConfig(MongoTemplate mongoTemplate, MongoMappingContext mappingContext) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mappingContext;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void ensureIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entity);
+            resolver.resolveIndexFor(entity).forEach(index -> {
+                try {
+                    indexOps.ensureIndex(index);
+                } catch (RuntimeException e) {
+                    logger.error("[MongoIndexConfig] Failed to ensure index {} on {}: {}",
+                            index.getIndexKeys(), entity.getSimpleName(), e.getMessage());
+                }
+            });
+            logger.info("[MongoIndexConfig] Ensured indexes for {}", entity.getSimpleName());
+        }
+    }
+}
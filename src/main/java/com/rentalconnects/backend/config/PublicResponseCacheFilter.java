@@ -0,0 +1,225 @@
+package com.rentalconnects.backend.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.rentalconnects.backend.event.ExchangeRatesChangedEvent;
+import com.rentalconnects.backend.event.PropertiesImportedEvent;
+import com.rentalconnects.backend.event.PropertyChangedEvent;
+import com.rentalconnects.backend.util.ContentEncodings;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Shared response cache for anonymous GETs on the public property endpoints.
+ *
+ * Successful JSON responses are stored gzip-compressed under the request path plus its
+ * normalized (sorted) query string and replayed without reaching the controller or Jackson;
+ * clients that accept gzip get the stored bytes as-is. The whole cache is dropped on every
+ * {@link PropertyChangedEvent}, {@link PropertiesImportedEvent} or
+ * {@link ExchangeRatesChangedEvent}, which only this instance sees; writes made through
+ * other instances are picked up when entries expire, so this
+ * instance may serve a response that predates such a write for up to the TTL (10s by
+ * default). The cache is bounded both by entry count and by the total compressed bytes it
+ * holds, evicting the least recently served entries first. Requests carrying an
+ * Authorization header, single-property reads (which record views), popularity rankings and
+ * streamed exports always go to the controller.
+ */
+@Component
+public class PublicResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicResponseCacheFilter.class);
+
+    private static final Pattern PROPERTY_DETAIL = Pattern.compile("^/api/properties/[0-9a-fA-F]{24}$");
+    private static final List<String> EXCLUDED_PATHS = List.of("/api/properties/popular", "/api/properties/export");
+    private static final String VARY = HttpHeaders.ACCEPT_ENCODING + ", " + HttpHeaders.AUTHORIZATION;
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final int maxEntryBytes;
+    private final long maxTotalBytes;
+    private final AtomicLong generation = new AtomicLong();
+    // Access-ordered, so the eldest entry is the least recently served. Guarded by its own monitor.
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public PublicResponseCacheFilter(@Value("${property.response-cache.ttl-ms:10000}") long ttlMillis,
+                                     @Value("${property.response-cache.max-entries:500}") int maxEntries,
+                                     @Value("${property.response-cache.max-entry-bytes:1048576}") int maxEntryBytes,
+                                     @Value("${property.response-cache.max-total-bytes:16777216}") long maxTotalBytes) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.maxEntryBytes = maxEntryBytes;
+        this.maxTotalBytes = maxTotalBytes;
+    }
+
+    @EventListener({PropertyChangedEvent.class, PropertiesImportedEvent.class, ExchangeRatesChangedEvent.class})
+    public void invalidate() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+            totalBytes = 0;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !HttpMethod.GET.matches(request.getMethod())
+                || request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || !(path.equals("/api/properties") || path.startsWith("/api/properties/"))
+                || PROPERTY_DETAIL.matcher(path).matches()
+                || EXCLUDED_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = cacheKey(request);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && System.currentTimeMillis() - entry.storedAt < ttlMillis) {
+            serve(entry, request, response);
+            return;
+        }
+
+        // A write that lands while this request runs must not leave its stale result cached.
+        long startGeneration = generation.get();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || !isJson(wrapper.getContentType())
+                || request.isAsyncStarted()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        byte[] compressed = gzip(body);
+        entry = new Entry(compressed, wrapper.getContentType(), wrapper.getHeader(HttpHeaders.ETAG), System.currentTimeMillis());
+        if (compressed.length <= Math.min(maxEntryBytes, maxTotalBytes) && store(key, entry, startGeneration)) {
+            logger.debug("[PublicResponseCacheFilter] Cached {} ({} -> {} bytes)", key, body.length, compressed.length);
+        }
+        serve(entry, request, response);
+    }
+
+    /** Stores the entry unless the cache was invalidated since the request started. */
+    private boolean store(String key, Entry entry, long startGeneration) {
+        synchronized (entries) {
+            if (generation.get() != startGeneration) {
+                return false;
+            }
+            Entry replaced = entries.put(key, entry);
+            totalBytes += entry.gzipped.length - (replaced != null ? replaced.gzipped.length : 0);
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (eldest.hasNext() && (entries.size() > maxEntries || totalBytes > maxTotalBytes)) {
+                totalBytes -= eldest.next().gzipped.length;
+                eldest.remove();
+            }
+            return true;
+        }
+    }
+
+    private void serve(Entry entry, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.VARY, VARY);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (entry.etag != null && new ServletWebRequest(request, response).checkNotModified(entry.etag)) {
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType);
+        byte[] body;
+        if (ContentEncodings.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = entry.gzipped;
+        } else {
+            body = gunzip(entry.gzipped);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /** Path plus the query parameters sorted by name, so reordered query strings share an entry. */
+    private static String cacheKey(HttpServletRequest request) {
+        List<String> names = new ArrayList<>(request.getParameterMap().keySet());
+        Collections.sort(names);
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        char separator = '?';
+        for (String name : names) {
+            for (String value : request.getParameterValues(name)) {
+                key.append(separator).append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+                        .append('=').append(URLEncoder.encode(value.trim(), StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private static boolean isJson(String contentType) {
+        try {
+            return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static final class Entry {
+
+        private final byte[] gzipped;
+        private final String contentType;
+        private final String etag;
+        private final long storedAt;
+
+        Entry(byte[] gzipped, String contentType, String etag, long storedAt) {
+            this.gzipped = gzipped;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.storedAt = storedAt;
+        }
+    }
+}
@@ -71,10 +71,12 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> {
                 auth
                     .requestMatchers(HttpMethod.POST, "/api/auth/signin", "/api/auth/signup", "/api/auth/login", "/api/auth/refresh").permitAll()
+                    // Paystack webhooks carry no JWT; the controller verifies their signature instead.
+                    .requestMatchers(HttpMethod.POST, "/api/payments/paystack/callback").permitAll()
                     .requestMatchers(HttpMethod.GET, "/api/properties", "/api/properties/**", "/images/**", "/Uploads/properties/**").permitAll()
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                     .anyRequest().authenticated();
-                logger.info("Authorization rules applied: /api/auth/signin, /api/auth/signup, /api/auth/login, /api/auth/refresh, /api/properties, /images, and OPTIONS permitted, others require authentication.");
+                logger.info("Authorization rules applied: /api/auth/signin, /api/auth/signup, /api/auth/login, /api/auth/refresh, /api/payments/paystack/callback, /api/properties, /images, and OPTIONS permitted, others require authentication.");
             })
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         return http.build();
@@ -86,7 +88,8 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList(allowedOrigins));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "responseType"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "responseType", "If-None-Match", "If-Modified-Since"));
+        configuration.setExposedHeaders(Arrays.asList("ETag", "Last-Modified"));
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
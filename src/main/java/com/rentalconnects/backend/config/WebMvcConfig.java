@@ -3,6 +3,7 @@ package com.rentalconnects.backend.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -14,6 +15,12 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Value("${cors.allowed-origins}")
     private String[] allowedOrigins;
 
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    public WebMvcConfig(ConditionalGetInterceptor conditionalGetInterceptor) {
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
+    }
+
     // Maps /images/** requests to the uploads/images directory for serving static image files
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
@@ -22,6 +29,15 @@ public class WebMvcConfig implements WebMvcConfigurer {
             .addResourceLocations("file:uploads/images/");
     }
 
+    // Answers conditional GETs on public property lists from the collection version; popularity is view-driven
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry
+            .addInterceptor(conditionalGetInterceptor)
+            .addPathPatterns("/api/properties", "/api/properties/**")
+            .excludePathPatterns("/api/properties/popular");
+    }
+
     // Configures CORS settings to allow cross-origin requests for API endpoints
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -29,7 +45,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
             .addMapping("/api/**")
             .allowedOrigins(allowedOrigins)
             .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
-            .allowedHeaders("Authorization", "Content-Type", "responseType")
+            .allowedHeaders("Authorization", "Content-Type", "responseType", "If-None-Match", "If-Modified-Since")
+            .exposedHeaders("ETag", "Last-Modified")
             .allowCredentials(true);
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.rentalconnects.backend.controller;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.rentalconnects.backend.service.ExchangeRateService;
+
+/**
+ * Controller for the exchange rates used to normalize rents into the base currency.
+ */
+@RestController
+@RequestMapping("/api/admin/exchange-rates")
+public class ExchangeRateController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExchangeRateController.class);
+
+    private final ExchangeRateService exchangeRateService;
+
+    public ExchangeRateController(ExchangeRateService exchangeRateService) {
+        this.exchangeRateService = exchangeRateService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getRates() {
+        return ResponseEntity.ok(Map.of(
+                "baseCurrency", exchangeRateService.getBaseCurrency(),
+                "rates", exchangeRateService.getRates()));
+    }
+
+    /**
+     * Overrides rates, given as units of base currency per unit of each currency, and
+     * re-normalizes the rent of every property in a currency whose rate changed.
+     */
+    @PutMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> updateRates(@RequestBody Map<String, Double> rates) {
+        logger.info("[ExchangeRateController] Updating exchange rates for {}", rates.keySet());
+        Map<String, Double> updated = exchangeRateService.updateRates(rates);
+        return ResponseEntity.ok(Map.of(
+                "baseCurrency", exchangeRateService.getBaseCurrency(),
+                "rates", updated));
+    }
+}
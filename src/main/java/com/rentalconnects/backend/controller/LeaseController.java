@@ -1,14 +1,21 @@
 package com.rentalconnects.backend.controller;
 
 import java.util.List;
+import java.util.Map;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import com.rentalconnects.backend.dto.LeaseDTO;
+import com.rentalconnects.backend.model.LeaseBalance;
+import com.rentalconnects.backend.model.LedgerEntry;
 import com.rentalconnects.backend.service.LeaseService;
+import com.rentalconnects.backend.service.LedgerService;
 import com.rentalconnects.backend.util.AuthUtils;
 
 @RestController
@@ -16,10 +23,12 @@ import com.rentalconnects.backend.util.AuthUtils;
 public class LeaseController {
 
     private final LeaseService leaseService;
+    private final LedgerService ledgerService;
     private final AuthUtils authUtils;
 
-    public LeaseController(LeaseService leaseService, AuthUtils authUtils) {
+    public LeaseController(LeaseService leaseService, LedgerService ledgerService, AuthUtils authUtils) {
         this.leaseService = leaseService;
+        this.ledgerService = ledgerService;
         this.authUtils = authUtils;
     }
 
@@ -43,6 +52,52 @@ public class LeaseController {
         return ResponseEntity.ok(leaseService.getUpcomingLeaseRenewals(userId));
     }
 
+    @GetMapping("/arrears")
+    @PreAuthorize("hasAuthority('ROLE_LANDLORD')")
+    public ResponseEntity<List<LeaseBalance>> getArrears() {
+        String userId = authUtils.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null);
+        }
+        return ResponseEntity.ok(ledgerService.getArrears(userId));
+    }
+
+    @GetMapping("/{leaseId}/balance")
+    @PreAuthorize("hasAuthority('ROLE_LANDLORD')")
+    public ResponseEntity<LeaseBalance> getBalance(@PathVariable String leaseId) {
+        String userId = authUtils.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null);
+        }
+        return ResponseEntity.ok(ledgerService.getBalance(userId, leaseId));
+    }
+
+    @GetMapping("/{leaseId}/ledger")
+    @PreAuthorize("hasAuthority('ROLE_LANDLORD')")
+    public ResponseEntity<List<LedgerEntry>> getLedger(@PathVariable String leaseId) {
+        String userId = authUtils.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null);
+        }
+        return ResponseEntity.ok(ledgerService.getEntries(userId, leaseId));
+    }
+
+    @PostMapping("/{leaseId}/adjustments")
+    @PreAuthorize("hasAuthority('ROLE_LANDLORD')")
+    public ResponseEntity<LedgerEntry> addAdjustment(@PathVariable String leaseId, @RequestBody Map<String, Object> body) {
+        String userId = authUtils.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null);
+        }
+        if (!(body.get("amount") instanceof Number amount)) {
+            throw new IllegalArgumentException("Adjustment amount is required");
+        }
+        Object description = body.get("description");
+        LedgerEntry entry = ledgerService.recordAdjustment(userId, leaseId, amount.doubleValue(),
+                description != null ? description.toString() : null);
+        return ResponseEntity.status(HttpStatus.CREATED).body(entry);
+    }
+
     public LeaseService getLeaseService() {
         return leaseService;
     }
@@ -16,11 +16,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.rentalconnects.backend.model.Notification;
 import com.rentalconnects.backend.model.Payment;
+import com.rentalconnects.backend.service.InboundWebhookService;
 import com.rentalconnects.backend.service.NotificationService;
 import com.rentalconnects.backend.service.PaymentService;
 import com.rentalconnects.backend.service.PaystackService;
@@ -37,6 +39,7 @@ public class PaymentController {
     private final NotificationService notificationService;
     private final TransactionService transactionService;
     private final PaystackService paystackService;
+    private final InboundWebhookService inboundWebhookService;
     private final AuthUtils authUtils;
 
     public PaymentController(
@@ -44,11 +47,13 @@ public class PaymentController {
             NotificationService notificationService,
             TransactionService transactionService,
             PaystackService paystackService,
+            InboundWebhookService inboundWebhookService,
             AuthUtils authUtils) {
         this.paymentService = paymentService;
         this.notificationService = notificationService;
         this.transactionService = transactionService;
         this.paystackService = paystackService;
+        this.inboundWebhookService = inboundWebhookService;
         this.authUtils = authUtils;
         logger.info("PaymentController initialized for rentalconnects");
     }
@@ -295,10 +300,17 @@ public class PaymentController {
         return ResponseEntity.ok(Map.of("redirectUrl", redirectUrl));
     }
 
+    // Verifies the signature over the raw body and acks once the delivery is queued; payment
+    // updates and notifications run on the webhook workers.
     @PostMapping("/payments/paystack/callback")
-    public ResponseEntity<Void> handlePaystackCallback(@RequestBody Map<String, Object> callbackData) {
-        logger.info("processing paystack callback: {}", callbackData);
-        paystackService.processPaystackCallback(callbackData);
+    public ResponseEntity<Void> handlePaystackCallback(@RequestBody byte[] body,
+                                                       @RequestHeader(value = "x-paystack-signature", required = false) String signature) {
+        if (!paystackService.isValidSignature(body, signature)) {
+            logger.warn("Rejecting Paystack callback with invalid signature");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        boolean queued = inboundWebhookService.enqueue(InboundWebhookService.PROVIDER_PAYSTACK, body);
+        logger.info("Paystack callback {}", queued ? "queued" : "already received");
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
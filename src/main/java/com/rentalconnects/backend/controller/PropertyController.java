@@ -1,23 +1,47 @@
 package com.rentalconnects.backend.controller;
 
+import com.rentalconnects.backend.dto.LocationSuggestionDTO;
+import com.rentalconnects.backend.dto.PageResponse;
+import com.rentalconnects.backend.dto.PopularPropertyDTO;
+import com.rentalconnects.backend.dto.PropertyClusterDTO;
 import com.rentalconnects.backend.dto.PropertyDTO;
+import com.rentalconnects.backend.dto.PropertyDistanceDTO;
+import com.rentalconnects.backend.dto.PropertyFacetsDTO;
+import com.rentalconnects.backend.dto.PropertySearchRequest;
+import com.rentalconnects.backend.dto.RentEstimateDTO;
 import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.service.PropertyExportService;
 import com.rentalconnects.backend.service.PropertyService;
+import com.rentalconnects.backend.service.PropertyViewService;
 import com.rentalconnects.backend.util.AuthUtils;
+import com.rentalconnects.backend.util.ContentEncodings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api")
@@ -28,12 +52,22 @@ public class PropertyController {
     @Autowired
     private PropertyService propertyService;
 
+    @Autowired
+    private PropertyViewService propertyViewService;
+
+    @Autowired
+    private PropertyExportService propertyExportService;
+
     @Autowired
     private AuthUtils authUtils;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    // Exports stream the whole catalogue, so they get a longer async timeout than other requests
+    @Value("${property.export.async-timeout-ms:3600000}")
+    private long exportTimeoutMillis;
+
     @GetMapping("/properties")
     public ResponseEntity<List<Property>> getAllActiveProperties() {
         logger.info("[PropertyController] Fetching all active properties");
@@ -51,20 +85,99 @@ public class PropertyController {
     }
 
     @GetMapping("/properties/{id}")
-    public ResponseEntity<Property> getProperty(@PathVariable String id) {
+    public ResponseEntity<Property> getProperty(@PathVariable String id, WebRequest request) {
         logger.info("[PropertyController] Fetching property with ID: {}", id);
         if (!isValidObjectId(id)) {
             logger.warn("[PropertyController] Invalid ID format: {}", id);
             return ResponseEntity.badRequest().body(null);
         }
+        // Revalidate against a projected lookup before loading the full document.
+        Optional<Property> stamp = propertyService.getPropertyVersionStamp(id);
+        if (stamp.isEmpty()) {
+            logger.warn("[PropertyController] Property not found with ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        LocalDateTime updatedAt = stamp.get().getUpdatedAt();
+        long lastModified = updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+        String etag = "\"" + id + "-" + Math.max(lastModified, 0) + "\"";
+        if (request.checkNotModified(etag, lastModified)) {
+            propertyViewService.recordView(id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         return propertyService.getPropertyById(id)
-                .map(ResponseEntity::ok)
+                .map(property -> {
+                    propertyViewService.recordView(id);
+                    return ResponseEntity.ok().eTag(etag).body(property);
+                })
                 .orElseGet(() -> {
                     logger.warn("[PropertyController] Property not found with ID: {}", id);
                     return ResponseEntity.notFound().build();
                 });
     }
 
+    @GetMapping("/properties/popular")
+    public ResponseEntity<List<PopularPropertyDTO>> getPopularProperties(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "10") int limit) {
+        logger.info("[PropertyController] Fetching popular properties over {} days", days);
+        List<PopularPropertyDTO> properties = propertyViewService.getPopularProperties(days, limit);
+        logger.info("[PropertyController] Returning {} popular properties", properties.size());
+        return ResponseEntity.ok(properties);
+    }
+
+    /**
+     * Streams the listing catalogue as newline-delimited JSON for partner feeds, gzip-compressed
+     * when the client accepts it. Pass {@code since} for an incremental export and {@code after}
+     * (the ID on the last line received) to resume an interrupted one.
+     */
+    @GetMapping(value = "/properties/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportProperties(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String after,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        logger.info("[PropertyController] Exporting properties since {} after {}", since, after);
+        if (after != null && !isValidObjectId(after)) {
+            logger.warn("[PropertyController] Invalid resume ID format: {}", after);
+            return ResponseEntity.badRequest().build();
+        }
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(webRequest).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(exportTimeoutMillis);
+        }
+        boolean gzip = ContentEncodings.acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(out, 8192)) {
+                    propertyExportService.exportProperties(since, after, compressed);
+                }
+            } else {
+                propertyExportService.exportProperties(since, after, out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/properties/{id}/similar")
+    public ResponseEntity<List<Property>> getSimilarProperties(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "6") int limit) {
+        logger.info("[PropertyController] Fetching properties similar to ID: {}", id);
+        if (!isValidObjectId(id)) {
+            logger.warn("[PropertyController] Invalid ID format: {}", id);
+            return ResponseEntity.badRequest().body(null);
+        }
+        List<Property> properties = propertyService.getSimilarProperties(id, limit);
+        logger.info("[PropertyController] Returning {} similar properties", properties.size());
+        return ResponseEntity.ok(properties);
+    }
+
     @GetMapping("/properties/landlord/{landlordId}")
     public ResponseEntity<List<Property>> getPropertiesByLandlordId(@PathVariable String landlordId) {
         logger.info("[PropertyController] Fetching properties for landlord ID: {}", landlordId);
@@ -89,6 +202,88 @@ public class PropertyController {
         return ResponseEntity.ok(properties);
     }
 
+    @GetMapping("/properties/search")
+    public ResponseEntity<PageResponse<Property>> searchProperties(
+            @RequestParam("q") String query,
+            @ModelAttribute PropertySearchRequest filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("[PropertyController] Full-text search for '{}' (page {}, size {})", query, page, size);
+        if (query == null || query.trim().isEmpty()) {
+            logger.warn("[PropertyController] Empty search query provided");
+            return ResponseEntity.badRequest().body(null);
+        }
+        Page<Property> properties = propertyService.searchProperties(query, filter, page, size);
+        logger.info("[PropertyController] Returning {} of {} properties", properties.getNumberOfElements(), properties.getTotalElements());
+        return ResponseEntity.ok(PageResponse.of(properties));
+    }
+
+    @GetMapping("/properties/nearby")
+    public ResponseEntity<List<PropertyDistanceDTO>> getPropertiesNearby(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @ModelAttribute PropertySearchRequest filter,
+            @RequestParam(defaultValue = "50") int limit) {
+        logger.info("[PropertyController] Searching properties within {} km of ({}, {})", radiusKm, lat, lng);
+        List<PropertyDistanceDTO> properties = propertyService.findPropertiesNear(lat, lng, radiusKm, filter, limit);
+        logger.info("[PropertyController] Returning {} properties", properties.size());
+        return ResponseEntity.ok(properties);
+    }
+
+    @GetMapping("/properties/map")
+    public ResponseEntity<List<Property>> getPropertiesInBounds(
+            @RequestParam double minLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLat,
+            @RequestParam double maxLng,
+            @ModelAttribute PropertySearchRequest filter,
+            @RequestParam(defaultValue = "500") int limit) {
+        logger.info("[PropertyController] Searching properties in bounds ({}, {}) - ({}, {})", minLat, minLng, maxLat, maxLng);
+        List<Property> properties = propertyService.findPropertiesInBounds(minLat, minLng, maxLat, maxLng, filter, limit);
+        logger.info("[PropertyController] Returning {} properties", properties.size());
+        return ResponseEntity.ok(properties);
+    }
+
+    @GetMapping("/properties/map/clusters")
+    public ResponseEntity<List<PropertyClusterDTO>> getPropertyClusters(
+            @RequestParam double minLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLat,
+            @RequestParam double maxLng,
+            @RequestParam int zoom,
+            @ModelAttribute PropertySearchRequest filter) {
+        logger.info("[PropertyController] Clustering properties in bounds ({}, {}) - ({}, {}) at zoom {}", minLat, minLng, maxLat, maxLng, zoom);
+        List<PropertyClusterDTO> clusters = propertyService.clusterPropertiesInBounds(minLat, minLng, maxLat, maxLng, zoom, filter);
+        logger.info("[PropertyController] Returning {} clusters", clusters.size());
+        return ResponseEntity.ok(clusters);
+    }
+
+    @GetMapping("/properties/filter")
+    public ResponseEntity<List<Property>> getFilteredProperties(@ModelAttribute PropertySearchRequest filter) {
+        logger.info("[PropertyController] Filtering available properties");
+        List<Property> properties = propertyService.getFilteredProperties(filter);
+        logger.info("[PropertyController] Returning {} properties", properties.size());
+        return ResponseEntity.ok(properties);
+    }
+
+    @GetMapping("/properties/locations/suggest")
+    public ResponseEntity<List<LocationSuggestionDTO>> suggestLocations(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(propertyService.suggestLocations(prefix, limit));
+    }
+
+    @GetMapping("/properties/facets")
+    public ResponseEntity<PropertyFacetsDTO> getPropertyFacets(
+            @ModelAttribute PropertySearchRequest filter,
+            @RequestParam(required = false) double[] rentBuckets) {
+        logger.info("[PropertyController] Computing property facet counts");
+        PropertyFacetsDTO facets = propertyService.getFacetCounts(filter, rentBuckets);
+        logger.info("[PropertyController] Returning facets over {} properties", facets.getTotal());
+        return ResponseEntity.ok(facets);
+    }
+
     @GetMapping("/properties/type/{type}")
     public ResponseEntity<List<Property>> getPropertiesByType(@PathVariable String type) {
         logger.info("[PropertyController] Fetching properties by type: {}", type);
@@ -144,6 +339,19 @@ public class PropertyController {
         }
     }
 
+    @GetMapping("/landlord/properties/rent-estimate")
+    @PreAuthorize("hasAuthority('ROLE_LANDLORD')")
+    public ResponseEntity<RentEstimateDTO> estimateRent(
+            @RequestParam String propertyType,
+            @RequestParam(required = false) Integer bedrooms,
+            @RequestParam(required = false) Integer bathrooms,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String currency) {
+        return ResponseEntity.ok(propertyService.estimateRent(propertyType, bedrooms, bathrooms, lat, lng, location, currency));
+    }
+
     @PostMapping(value = "/landlord/properties", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasAuthority('ROLE_LANDLORD')")
     public ResponseEntity<?> addProperty(
@@ -168,6 +376,9 @@ public class PropertyController {
             property.setBathrooms(propertyDTO.getBathrooms());
             property.setAddress(propertyDTO.getLocation());
             property.setLocation(propertyDTO.getLocation());
+            if (propertyDTO.getLatitude() != null && propertyDTO.getLongitude() != null) {
+                property.setGeoPoint(new GeoJsonPoint(propertyDTO.getLongitude(), propertyDTO.getLatitude()));
+            }
             property.setRent(propertyDTO.getPrice());
             property.setCurrency(propertyDTO.getCurrency());
             property.setSquareFeet(propertyDTO.getSquareFeet());
@@ -229,6 +440,9 @@ public class PropertyController {
             property.setBathrooms(propertyDTO.getBathrooms());
             property.setAddress(propertyDTO.getLocation());
             property.setLocation(propertyDTO.getLocation());
+            if (propertyDTO.getLatitude() != null && propertyDTO.getLongitude() != null) {
+                property.setGeoPoint(new GeoJsonPoint(propertyDTO.getLongitude(), propertyDTO.getLatitude()));
+            }
             property.setRent(propertyDTO.getPrice());
             property.setCurrency(propertyDTO.getCurrency());
             property.setSquareFeet(propertyDTO.getSquareFeet());
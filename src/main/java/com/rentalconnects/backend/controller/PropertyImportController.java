@@ -0,0 +1,63 @@
+package com.rentalconnects.backend.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.rentalconnects.backend.model.PropertyImportJob;
+import com.rentalconnects.backend.service.PropertyImportService;
+import com.rentalconnects.backend.util.AuthUtils;
+
+/**
+ * Controller for bulk property imports. An import runs in the background; the returned job
+ * reports progress and the outcome of every row.
+ */
+@RestController
+@RequestMapping("/api/landlord/properties/import")
+public class PropertyImportController {
+
+    private final PropertyImportService propertyImportService;
+    private final AuthUtils authUtils;
+
+    public PropertyImportController(PropertyImportService propertyImportService, AuthUtils authUtils) {
+        this.propertyImportService = propertyImportService;
+        this.authUtils = authUtils;
+    }
+
+    /**
+     * Starts importing properties for the authenticated landlord.
+     * @param file   A CSV file with a header row, or a JSON array of property objects
+     * @param images An optional zip archive of the images named in the rows' "images" column
+     * @return The queued import job
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAuthority('ROLE_LANDLORD')")
+    public ResponseEntity<PropertyImportJob> startImport(
+            @RequestPart("file") MultipartFile file,
+            @RequestPart(value = "images", required = false) MultipartFile images) {
+        String landlordId = authUtils.getCurrentUserId();
+        return new ResponseEntity<>(propertyImportService.startImport(landlordId, file, images), HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Retrieves one of the authenticated landlord's import jobs.
+     * @param jobId The ID of the import job
+     * @return The job with its progress and per-row results
+     */
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasAuthority('ROLE_LANDLORD')")
+    public ResponseEntity<PropertyImportJob> getImportJob(@PathVariable String jobId) {
+        String landlordId = authUtils.getCurrentUserId();
+        return propertyImportService.getJob(jobId, landlordId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,77 @@
+package com.rentalconnects.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.rentalconnects.backend.model.SavedSearch;
+import com.rentalconnects.backend.service.SavedSearchService;
+import com.rentalconnects.backend.util.AuthUtils;
+
+import jakarta.validation.Valid;
+
+/**
+ * Controller for a tenant's saved property searches. Listings matching a saved search
+ * trigger a notification when they are created or updated.
+ */
+@RestController
+@RequestMapping("/api/tenant/saved-searches")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+    private final AuthUtils authUtils;
+
+    public SavedSearchController(SavedSearchService savedSearchService, AuthUtils authUtils) {
+        this.savedSearchService = savedSearchService;
+        this.authUtils = authUtils;
+    }
+
+    /**
+     * Saves a search for the authenticated tenant.
+     * @param savedSearch The search predicates
+     * @return The saved search
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('TENANT')")
+    public ResponseEntity<SavedSearch> createSavedSearch(@Valid @RequestBody SavedSearch savedSearch) {
+        String tenantId = authUtils.getCurrentUserId();
+        return new ResponseEntity<>(savedSearchService.createSavedSearch(tenantId, savedSearch), HttpStatus.CREATED);
+    }
+
+    /**
+     * Retrieves the authenticated tenant's saved searches.
+     * @return List of saved searches
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('TENANT')")
+    public ResponseEntity<List<SavedSearch>> getSavedSearches() {
+        String tenantId = authUtils.getCurrentUserId();
+        return ResponseEntity.ok(savedSearchService.getSavedSearches(tenantId));
+    }
+
+    /**
+     * Deletes one of the authenticated tenant's saved searches.
+     * @param id The ID of the saved search
+     * @return No content
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('TENANT')")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable String id) {
+        String tenantId = authUtils.getCurrentUserId();
+        try {
+            savedSearchService.deleteSavedSearch(id, tenantId);
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.rentalconnects.backend.dto;
+
+/**
+ * A location typeahead suggestion and the number of available listings carrying it.
+ */
+public class LocationSuggestionDTO {
+
+    private String value;
+    private int listingCount;
+
+    public LocationSuggestionDTO() {}
+
+    public LocationSuggestionDTO(String value, int listingCount) {
+        this.value = value;
+        this.listingCount = listingCount;
+    }
+
+    public String getValue() { return value; }
+    public void setValue(String value) { this.value = value; }
+    public int getListingCount() { return listingCount; }
+    public void setListingCount(int listingCount) { this.listingCount = listingCount; }
+}
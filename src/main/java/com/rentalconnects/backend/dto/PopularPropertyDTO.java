@@ -0,0 +1,24 @@
+package com.rentalconnects.backend.dto;
+
+import com.rentalconnects.backend.model.Property;
+
+/**
+ * A property and the number of times it was viewed in the ranking window.
+ */
+public class PopularPropertyDTO {
+
+    private Property property;
+    private long views;
+
+    public PopularPropertyDTO() {}
+
+    public PopularPropertyDTO(Property property, long views) {
+        this.property = property;
+        this.views = views;
+    }
+
+    public Property getProperty() { return property; }
+    public void setProperty(Property property) { this.property = property; }
+    public long getViews() { return views; }
+    public void setViews(long views) { this.views = views; }
+}
@@ -0,0 +1,38 @@
+package com.rentalconnects.backend.dto;
+
+/**
+ * Aggregated map marker for all available properties in one geohash cell.
+ */
+public class PropertyClusterDTO {
+
+    private String geohash;
+    private long count;
+    private double latitude;
+    private double longitude;
+    private Double minRent;
+    private Double maxRent;
+
+    public PropertyClusterDTO() {}
+
+    public PropertyClusterDTO(String geohash, long count, double latitude, double longitude, Double minRent, Double maxRent) {
+        this.geohash = geohash;
+        this.count = count;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.minRent = minRent;
+        this.maxRent = maxRent;
+    }
+
+    public String getGeohash() { return geohash; }
+    public void setGeohash(String geohash) { this.geohash = geohash; }
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+    public double getLatitude() { return latitude; }
+    public void setLatitude(double latitude) { this.latitude = latitude; }
+    public double getLongitude() { return longitude; }
+    public void setLongitude(double longitude) { this.longitude = longitude; }
+    public Double getMinRent() { return minRent; }
+    public void setMinRent(Double minRent) { this.minRent = minRent; }
+    public Double getMaxRent() { return maxRent; }
+    public void setMaxRent(Double maxRent) { this.maxRent = maxRent; }
+}
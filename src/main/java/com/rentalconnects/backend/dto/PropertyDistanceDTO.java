@@ -0,0 +1,24 @@
+package com.rentalconnects.backend.dto;
+
+import com.rentalconnects.backend.model.Property;
+
+/**
+ * A property returned by a radius search, with its distance from the search point.
+ */
+public class PropertyDistanceDTO {
+
+    private Property property;
+    private double distanceKm;
+
+    public PropertyDistanceDTO() {}
+
+    public PropertyDistanceDTO(Property property, double distanceKm) {
+        this.property = property;
+        this.distanceKm = distanceKm;
+    }
+
+    public Property getProperty() { return property; }
+    public void setProperty(Property property) { this.property = property; }
+    public double getDistanceKm() { return distanceKm; }
+    public void setDistanceKm(double distanceKm) { this.distanceKm = distanceKm; }
+}
@@ -0,0 +1,56 @@
+package com.rentalconnects.backend.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Facet counts for the property search filters under the current filter set.
+ * Map entries are ordered by descending count.
+ */
+public class PropertyFacetsDTO {
+
+    private long total;
+    private Map<String, Long> propertyTypes = new LinkedHashMap<>();
+    private Map<String, Long> bedrooms = new LinkedHashMap<>();
+    private Map<String, Long> amenities = new LinkedHashMap<>();
+    private List<RentBucket> rentBuckets = new ArrayList<>();
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+    public Map<String, Long> getPropertyTypes() { return propertyTypes; }
+    public void setPropertyTypes(Map<String, Long> propertyTypes) { this.propertyTypes = propertyTypes; }
+    public Map<String, Long> getBedrooms() { return bedrooms; }
+    public void setBedrooms(Map<String, Long> bedrooms) { this.bedrooms = bedrooms; }
+    public Map<String, Long> getAmenities() { return amenities; }
+    public void setAmenities(Map<String, Long> amenities) { this.amenities = amenities; }
+    public List<RentBucket> getRentBuckets() { return rentBuckets; }
+    public void setRentBuckets(List<RentBucket> rentBuckets) { this.rentBuckets = rentBuckets; }
+
+    /**
+     * Count of properties whose base-currency rent falls in [min, max). Both bounds are null
+     * for the overflow bucket holding rents outside the configured range.
+     */
+    public static class RentBucket {
+
+        private Double min;
+        private Double max;
+        private long count;
+
+        public RentBucket() {}
+
+        public RentBucket(Double min, Double max, long count) {
+            this.min = min;
+            this.max = max;
+            this.count = count;
+        }
+
+        public Double getMin() { return min; }
+        public void setMin(Double min) { this.min = min; }
+        public Double getMax() { return max; }
+        public void setMax(Double max) { this.max = max; }
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+    }
+}
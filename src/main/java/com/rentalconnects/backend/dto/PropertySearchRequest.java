@@ -0,0 +1,53 @@
+package com.rentalconnects.backend.dto;
+
+import java.util.List;
+
+/**
+ * Structured filters shared by the public property search endpoints.
+ * Every field is optional; unset fields do not restrict the result set.
+ * Price bounds are in the base currency and compare against the normalized rentBase.
+ */
+public class PropertySearchRequest {
+
+    /** Result order for endpoints that support sorting; prices compare in the base currency. */
+    public enum SortOrder { PRICE_ASC, PRICE_DESC }
+
+    private String location;
+    private Double priceMin;
+    private Double priceMax;
+    private String propertyType;
+    private Integer bedrooms;
+    private Integer minBathrooms;
+    private Integer minSquareFeet;
+    private List<String> amenities;
+    private SortOrder sort;
+
+    public PropertySearchRequest() {}
+
+    public PropertySearchRequest(String location, Double priceMin, Double priceMax, String propertyType, Integer bedrooms) {
+        this.location = location;
+        this.priceMin = priceMin;
+        this.priceMax = priceMax;
+        this.propertyType = propertyType;
+        this.bedrooms = bedrooms;
+    }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    public Double getPriceMin() { return priceMin; }
+    public void setPriceMin(Double priceMin) { this.priceMin = priceMin; }
+    public Double getPriceMax() { return priceMax; }
+    public void setPriceMax(Double priceMax) { this.priceMax = priceMax; }
+    public String getPropertyType() { return propertyType; }
+    public void setPropertyType(String propertyType) { this.propertyType = propertyType; }
+    public Integer getBedrooms() { return bedrooms; }
+    public void setBedrooms(Integer bedrooms) { this.bedrooms = bedrooms; }
+    public Integer getMinBathrooms() { return minBathrooms; }
+    public void setMinBathrooms(Integer minBathrooms) { this.minBathrooms = minBathrooms; }
+    public Integer getMinSquareFeet() { return minSquareFeet; }
+    public void setMinSquareFeet(Integer minSquareFeet) { this.minSquareFeet = minSquareFeet; }
+    public List<String> getAmenities() { return amenities; }
+    public void setAmenities(List<String> amenities) { this.amenities = amenities; }
+    public SortOrder getSort() { return sort; }
+    public void setSort(SortOrder sort) { this.sort = sort; }
+}
@@ -0,0 +1,42 @@
+package com.rentalconnects.backend.dto;
+
+/**
+ * Suggested rent range for a new listing, taken from comparable listings.
+ * All amounts are null when too few comparable listings exist.
+ */
+public class RentEstimateDTO {
+
+    private String currency;
+    private Double low;
+    private Double median;
+    private Double high;
+    private int sampleSize;
+    private String basis;
+
+    public RentEstimateDTO() {}
+
+    public RentEstimateDTO(String currency, Double low, Double median, Double high, int sampleSize, String basis) {
+        this.currency = currency;
+        this.low = low;
+        this.median = median;
+        this.high = high;
+        this.sampleSize = sampleSize;
+        this.basis = basis;
+    }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+    /** 25th percentile of comparable rents. */
+    public Double getLow() { return low; }
+    public void setLow(Double low) { this.low = low; }
+    public Double getMedian() { return median; }
+    public void setMedian(Double median) { this.median = median; }
+    /** 75th percentile of comparable rents. */
+    public Double getHigh() { return high; }
+    public void setHigh(Double high) { this.high = high; }
+    public int getSampleSize() { return sampleSize; }
+    public void setSampleSize(int sampleSize) { this.sampleSize = sampleSize; }
+    /** Which comparables the range was drawn from, e.g. "same type and bedrooms within about 5 km". */
+    public String getBasis() { return basis; }
+    public void setBasis(String basis) { this.basis = basis; }
+}
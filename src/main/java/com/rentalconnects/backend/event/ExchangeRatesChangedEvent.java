@@ -0,0 +1,17 @@
+package com.rentalconnects.backend.event;
+
+import java.util.Set;
+
+/**
+ * Published after rent normalization has been recomputed for currencies whose rate changed.
+ */
+public class ExchangeRatesChangedEvent {
+
+    private final Set<String> currencies;
+
+    public ExchangeRatesChangedEvent(Set<String> currencies) {
+        this.currencies = Set.copyOf(currencies);
+    }
+
+    public Set<String> getCurrencies() { return currencies; }
+}
@@ -0,0 +1,47 @@
+package com.rentalconnects.backend.event;
+
+import java.util.List;
+
+/**
+ * Published once per batch of leases the lifecycle job moved to the same status, so listeners
+ * can handle the whole batch at once.
+ */
+public class LeaseStatusesChangedEvent {
+
+    private final String status;
+    private final List<Transition> transitions;
+
+    public LeaseStatusesChangedEvent(String status, List<Transition> transitions) {
+        this.status = status;
+        this.transitions = List.copyOf(transitions);
+    }
+
+    /** The status every lease in the batch was moved to. */
+    public String getStatus() { return status; }
+    public List<Transition> getTransitions() { return transitions; }
+
+    /** One lease of the batch. */
+    public static class Transition {
+
+        private final String leaseId;
+        private final String landlordId;
+        private final String tenantId;
+        private final String propertyId;
+        private final String previousStatus;
+
+        public Transition(String leaseId, String landlordId, String tenantId, String propertyId, String previousStatus) {
+            this.leaseId = leaseId;
+            this.landlordId = landlordId;
+            this.tenantId = tenantId;
+            this.propertyId = propertyId;
+            this.previousStatus = previousStatus;
+        }
+
+        public String getLeaseId() { return leaseId; }
+        public String getLandlordId() { return landlordId; }
+        public String getTenantId() { return tenantId; }
+        public String getPropertyId() { return propertyId; }
+        /** The status before the transition, or null if the lease had none. */
+        public String getPreviousStatus() { return previousStatus; }
+    }
+}
@@ -0,0 +1,21 @@
+package com.rentalconnects.backend.event;
+
+import java.util.List;
+
+import com.rentalconnects.backend.model.Property;
+
+/**
+ * Published once per bulk import batch after its properties were inserted, so listeners can
+ * apply the whole batch at once instead of handling one {@link PropertyChangedEvent} per row.
+ */
+public class PropertiesImportedEvent {
+
+    private final List<Property> properties;
+
+    public PropertiesImportedEvent(List<Property> properties) {
+        this.properties = List.copyOf(properties);
+    }
+
+    /** The inserted properties, in insertion order. */
+    public List<Property> getProperties() { return properties; }
+}
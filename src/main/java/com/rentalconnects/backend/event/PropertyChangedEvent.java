@@ -0,0 +1,45 @@
+package com.rentalconnects.backend.event;
+
+import com.rentalconnects.backend.model.Property;
+
+/**
+ * Published after a property has been created, updated or deleted so that
+ * in-memory derived views can update incrementally instead of re-reading MongoDB.
+ */
+public class PropertyChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final String propertyId;
+    private final Property property;
+    private final Property previous;
+
+    private PropertyChangedEvent(Type type, String propertyId, Property property, Property previous) {
+        this.type = type;
+        this.propertyId = propertyId;
+        this.property = property;
+        this.previous = previous;
+    }
+
+    public static PropertyChangedEvent created(Property property) {
+        return new PropertyChangedEvent(Type.CREATED, property.getId(), property, null);
+    }
+
+    public static PropertyChangedEvent updated(Property property, Property previous) {
+        return new PropertyChangedEvent(Type.UPDATED, property.getId(), property, previous);
+    }
+
+    public static PropertyChangedEvent deleted(String propertyId, Property previous) {
+        return new PropertyChangedEvent(Type.DELETED, propertyId, null, previous);
+    }
+
+    public Type getType() { return type; }
+    public String getPropertyId() { return propertyId; }
+
+    /** The saved property, or null for deletions. */
+    public Property getProperty() { return property; }
+
+    /** The property as it was before the change, when known. */
+    public Property getPrevious() { return previous; }
+}
@@ -0,0 +1,28 @@
+package com.rentalconnects.backend.exception;
+
+/**
+ * Exception thrown when an external service cannot be reached or is being shed to protect
+ * the application, such as when its circuit is open or too many calls are already in flight.
+ * Clients may retry the request later.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new ServiceUnavailableException with the specified message.
+     *
+     * @param message The detail message explaining why the exception was thrown.
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new ServiceUnavailableException with the specified message and cause.
+     *
+     * @param message The detail message explaining why the exception was thrown.
+     * @param cause   The underlying failure.
+     */
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,97 @@
+package com.rentalconnects.backend.job;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.rentalconnects.backend.model.JobCheckpoint;
+import com.rentalconnects.backend.repository.JobCheckpointRepository;
+
+/**
+ * Runs a job's daily pass at most once a day across instances, and resumes a pass that stopped
+ * partway.
+ *
+ * A pass runs under a {@link JobLockManager} lock and is skipped once the job's checkpoint
+ * records today. Jobs that work through ordered keys report each key they finish to
+ * {@link Pass#checkpoint(String)}, which also extends the lock; a later attempt the same day
+ * is handed the last one to resume after. A pass that returns normally marks the day done.
+ */
+final class DailyJobRunner {
+
+    private final String jobName;
+    private final JobLockManager lockManager;
+    private final JobCheckpointRepository checkpointRepository;
+    private final Duration lockTtl;
+    private final String owner = UUID.randomUUID().toString();
+
+    DailyJobRunner(String jobName, JobLockManager lockManager, JobCheckpointRepository checkpointRepository, Duration lockTtl) {
+        this.jobName = jobName;
+        this.lockManager = lockManager;
+        this.checkpointRepository = checkpointRepository;
+        this.lockTtl = lockTtl;
+    }
+
+    /**
+     * Runs today's pass unless it is done or another instance holds the lock. Exceptions thrown
+     * by the pass propagate once the lock is released.
+     *
+     * @return Whether the pass ran to completion.
+     */
+    boolean run(LocalDate today, Consumer<Pass> pass) {
+        if (isDone(checkpointRepository.findById(jobName), today) || !lockManager.tryAcquire(jobName, owner, lockTtl)) {
+            return false;
+        }
+        try {
+            // Re-read under the lock: another instance may have progressed since.
+            Optional<JobCheckpoint> checkpoint = checkpointRepository.findById(jobName);
+            if (isDone(checkpoint, today)) {
+                return false;
+            }
+            String resumeAfter = checkpoint
+                    .filter(c -> c.getPosition() != null && c.getUpdatedAt() != null && c.getUpdatedAt().toLocalDate().equals(today))
+                    .map(JobCheckpoint::getPosition).orElse(null);
+            pass.accept(new Pass(checkpoint.map(JobCheckpoint::getLastProcessedDate).orElse(null), resumeAfter));
+            checkpointRepository.save(new JobCheckpoint(jobName, today));
+            return true;
+        } finally {
+            lockManager.release(jobName, owner);
+        }
+    }
+
+    private static boolean isDone(Optional<JobCheckpoint> checkpoint, LocalDate today) {
+        return checkpoint.map(c -> c.getLastProcessedDate() != null && !c.getLastProcessedDate().isBefore(today)).orElse(false);
+    }
+
+    /** One attempt at the day's work. */
+    final class Pass {
+
+        private final LocalDate lastProcessed;
+        private final String resumeAfter;
+
+        private Pass(LocalDate lastProcessed, String resumeAfter) {
+            this.lastProcessed = lastProcessed;
+            this.resumeAfter = resumeAfter;
+        }
+
+        /** The last key finished by an earlier attempt today, or null to start from the beginning. */
+        String getResumeAfter() {
+            return resumeAfter;
+        }
+
+        /**
+         * Records {@code position} as finished and extends the lock.
+         *
+         * @throws RuntimeException If another instance took the lock over.
+         */
+        void checkpoint(String position) {
+            JobCheckpoint progress = new JobCheckpoint(jobName, lastProcessed);
+            progress.setPosition(position);
+            checkpointRepository.save(progress);
+            if (!lockManager.tryAcquire(jobName, owner, lockTtl)) {
+                throw new RuntimeException("Lost lock " + jobName);
+            }
+        }
+    }
+}
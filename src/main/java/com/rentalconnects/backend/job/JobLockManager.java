@@ -0,0 +1,57 @@
+package com.rentalconnects.backend.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.model.JobLock;
+
+/**
+ * Lease-style locks in the "job_locks" collection, shared by every instance.
+ *
+ * A lock is held until it expires or is released. Acquiring is a single upsert that only
+ * matches a lock that has expired or is already ours; when another owner holds it the upsert
+ * collides with the existing ID and the attempt fails. Holders extend the lease by acquiring
+ * again, so a crashed instance only blocks the work for one TTL.
+ */
+@Component
+public class JobLockManager {
+
+    private final MongoTemplate mongoTemplate;
+
+    public JobLockManager(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Takes or extends the named lock for {@code ttl}.
+     *
+     * @return Whether {@code owner} now holds the lock.
+     */
+    public boolean tryAcquire(String name, String owner, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(Criteria.where("_id").is(name).orOperator(
+                Criteria.where("expiresAt").lt(now), Criteria.where("owner").is(owner)));
+        Update update = new Update().set("owner", owner).set("expiresAt", now.plus(ttl));
+        try {
+            mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().upsert(true).returnNew(true), JobLock.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Releases the named lock if {@code owner} still holds it.
+     */
+    public void release(String name, String owner) {
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(name).and("owner").is(owner)), JobLock.class);
+    }
+}
@@ -0,0 +1,241 @@
+package com.rentalconnects.backend.job;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.model.Notification;
+import com.rentalconnects.backend.model.Payment;
+import com.rentalconnects.backend.repository.JobCheckpointRepository;
+import com.rentalconnects.backend.service.LedgerService;
+import com.rentalconnects.backend.service.NotificationService;
+
+/**
+ * Nightly late fees on PENDING invoices that are more than the grace period past their due date.
+ *
+ * Overdue invoices are found through the (status, landlordId, dueDate) index and handled
+ * landlord by landlord, in landlord ID order, in a {@link DailyJobRunner} pass. Each batch is stamped
+ * with its fee in one unordered bulk write whose updates only match invoices that are still
+ * PENDING and carry no fee, so an invoice is charged once however often the job reruns. The
+ * stamped fees are charged to the lease ledgers, and each landlord and tenant then gets one
+ * notification summarising the run. The last landlord finished is checkpointed, so a run that
+ * stops partway resumes after it; fees stamped earlier the same day are re-sent to the
+ * ledger, which skips those it already holds.
+ */
+@Component
+public class LateFeeJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(LateFeeJob.class);
+
+    static final String JOB_NAME = "late-fees";
+
+    private final MongoTemplate mongoTemplate;
+    private final DailyJobRunner dailyRunner;
+    private final LedgerService ledgerService;
+    private final NotificationService notificationService;
+    private final int graceDays;
+    private final double flatAmount;
+    private final double percent;
+    private final double maxAmount;
+    private final int batchSize;
+
+    public LateFeeJob(MongoTemplate mongoTemplate,
+                      JobLockManager lockManager,
+                      JobCheckpointRepository checkpointRepository,
+                      LedgerService ledgerService,
+                      NotificationService notificationService,
+                      @Value("${rent.late-fees.grace-days:5}") int graceDays,
+                      @Value("${rent.late-fees.flat-amount:0}") double flatAmount,
+                      @Value("${rent.late-fees.percent:5}") double percent,
+                      @Value("${rent.late-fees.max-amount:0}") double maxAmount,
+                      @Value("${rent.late-fees.batch-size:500}") int batchSize,
+                      @Value("${rent.late-fees.lock-ttl-ms:300000}") long lockTtlMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.dailyRunner = new DailyJobRunner(JOB_NAME, lockManager, checkpointRepository, Duration.ofMillis(lockTtlMillis));
+        this.ledgerService = ledgerService;
+        this.notificationService = notificationService;
+        this.graceDays = graceDays;
+        this.flatAmount = flatAmount;
+        this.percent = percent;
+        this.maxAmount = maxAmount;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Finishes a run interrupted by a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        run();
+    }
+
+    @Scheduled(cron = "${rent.late-fees.cron:0 30 1 * * *}")
+    public synchronized void run() {
+        LocalDate today = LocalDate.now();
+        try {
+            dailyRunner.run(today, pass -> chargeOverdue(today, pass));
+        } catch (RuntimeException e) {
+            logger.error("[LateFeeJob] Late fee run failed, will resume from the last finished landlord: {}", e.getMessage());
+        }
+    }
+
+    private void chargeOverdue(LocalDate today, DailyJobRunner.Pass pass) {
+        LocalDate overdueBefore = today.minusDays(graceDays);
+        LocalDateTime startOfDay = today.atStartOfDay();
+        // Truncated so the stamp survives the round-trip through MongoDB's millisecond dates unchanged.
+        LocalDateTime runAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        int landlords = 0;
+        int charged = 0;
+        for (String landlordId : landlordsWithOverdue(overdueBefore, startOfDay, pass.getResumeAfter())) {
+            charged += processLandlord(landlordId, overdueBefore, startOfDay, runAt);
+            landlords++;
+            pass.checkpoint(landlordId);
+        }
+        logger.info("[LateFeeJob] Charged {} late fees across {} landlords", charged, landlords);
+    }
+
+    /** Overdue, and either not yet charged or charged earlier today by a run that may not have finished. */
+    private static Criteria overdueCriteria(LocalDate overdueBefore, LocalDateTime startOfDay) {
+        return new Criteria().andOperator(
+                Criteria.where("status").is(Payment.STATUS_PENDING).and("dueDate").lt(overdueBefore),
+                new Criteria().orOperator(
+                        Criteria.where("lateFeeAppliedAt").exists(false),
+                        Criteria.where("lateFeeAppliedAt").gte(startOfDay)));
+    }
+
+    private List<String> landlordsWithOverdue(LocalDate overdueBefore, LocalDateTime startOfDay, String resumeAfter) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(overdueCriteria(overdueBefore, startOfDay)));
+        stages.add(Aggregation.group("landlordId"));
+        if (resumeAfter != null) {
+            stages.add(Aggregation.match(Criteria.where("_id").gt(resumeAfter)));
+        }
+        stages.add(Aggregation.sort(Sort.by("_id")));
+        return mongoTemplate.aggregate(Aggregation.newAggregation(stages), Payment.class, Document.class)
+                .getMappedResults().stream()
+                .map(result -> result.getString("_id"))
+                .filter(id -> id != null)
+                .collect(Collectors.toList());
+    }
+
+    private int processLandlord(String landlordId, LocalDate overdueBefore, LocalDateTime startOfDay, LocalDateTime runAt) {
+        Query query = new Query(new Criteria().andOperator(
+                overdueCriteria(overdueBefore, startOfDay), Criteria.where("landlordId").is(landlordId)));
+        query.fields().include("_id", "amount");
+        query.cursorBatchSize(batchSize);
+        List<Payment> charged = new ArrayList<>();
+        List<Payment> batch = new ArrayList<>(batchSize);
+        try (Stream<Payment> payments = mongoTemplate.stream(query, Payment.class)) {
+            Iterator<Payment> iterator = payments.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() >= batchSize) {
+                    charged.addAll(chargeBatch(batch, startOfDay, runAt));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            charged.addAll(chargeBatch(batch, startOfDay, runAt));
+        }
+        if (!charged.isEmpty()) {
+            notifyLateFees(landlordId, charged);
+        }
+        return charged.size();
+    }
+
+    /**
+     * Stamps fees on the batch and charges them to the ledgers.
+     *
+     * @return The invoices this run stamped.
+     */
+    private List<Payment> chargeBatch(List<Payment> batch, LocalDateTime startOfDay, LocalDateTime runAt) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Payment.class);
+        int pending = 0;
+        for (Payment payment : batch) {
+            double fee = lateFee(payment.getAmount());
+            if (fee <= 0) {
+                continue;
+            }
+            bulkOps.updateOne(
+                    Query.query(Criteria.where("_id").is(payment.getId()).and("status").is(Payment.STATUS_PENDING)
+                            .and("lateFeeAppliedAt").exists(false)),
+                    new Update().set("lateFee", fee).set("lateFeeAppliedAt", runAt).set("updatedAt", runAt).inc("version", 1));
+            pending++;
+        }
+        if (pending > 0) {
+            bulkOps.execute();
+        }
+
+        List<String> ids = batch.stream().map(Payment::getId).collect(Collectors.toList());
+        List<Payment> feesToday = mongoTemplate.find(
+                new Query(Criteria.where("_id").in(ids).and("lateFeeAppliedAt").gte(startOfDay)), Payment.class);
+        ledgerService.recordLateFees(feesToday);
+        return feesToday.stream().filter(payment -> runAt.equals(payment.getLateFeeAppliedAt())).collect(Collectors.toList());
+    }
+
+    private double lateFee(Double amount) {
+        double fee = flatAmount + (amount != null ? amount * percent / 100 : 0);
+        if (maxAmount > 0) {
+            fee = Math.min(fee, maxAmount);
+        }
+        return Math.round(fee * 100) / 100.0;
+    }
+
+    /** One notification for the landlord and one per tenant, however many invoices were charged. */
+    private void notifyLateFees(String landlordId, List<Payment> charged) {
+        double total = charged.stream().mapToDouble(Payment::getLateFee).sum();
+        List<Notification> notifications = new ArrayList<>();
+        Notification landlordNotification = new Notification();
+        landlordNotification.setRecipientId(landlordId);
+        landlordNotification.setLandlordId(landlordId);
+        landlordNotification.setMessage(charged.size() + (charged.size() == 1 ? " overdue invoice was" : " overdue invoices were")
+                + " charged late fees totalling $" + String.format("%.2f", total) + ".");
+        notifications.add(landlordNotification);
+
+        Map<String, List<Payment>> byTenant = charged.stream().filter(payment -> payment.getTenantId() != null)
+                .collect(Collectors.groupingBy(Payment::getTenantId, LinkedHashMap::new, Collectors.toList()));
+        byTenant.forEach((tenantId, payments) -> {
+            String periods = payments.stream().map(Payment::getPeriod).filter(period -> period != null).distinct()
+                    .collect(Collectors.joining(", "));
+            Notification tenantNotification = new Notification();
+            tenantNotification.setRecipientId(tenantId);
+            tenantNotification.setTenantId(tenantId);
+            tenantNotification.setMessage("A late fee of $" + String.format("%.2f", payments.stream().mapToDouble(Payment::getLateFee).sum())
+                    + " was added for overdue rent" + (periods.isEmpty() ? "" : " (" + periods + ")")
+                    + ". Please pay as soon as possible.");
+            notifications.add(tenantNotification);
+        });
+        try {
+            notificationService.sendNotifications(notifications);
+        } catch (RuntimeException e) {
+            logger.error("[LateFeeJob] Failed to send late fee notifications for landlord {}: {}", landlordId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.rentalconnects.backend.job;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.event.LeaseStatusesChangedEvent;
+import com.rentalconnects.backend.model.Lease;
+
+/**
+ * Keeps {@link Lease#getStatus()} in step with the lease dates: leases are PENDING before their
+ * start date, ACTIVE from their start date to their end date and EXPIRED the day after it.
+ * TERMINATED leases are never touched.
+ *
+ * Each run selects the leases whose status disagrees with today's date, whatever put them
+ * there, through the (status, startDate) and (status, endDate) indexes, so only mismatched
+ * leases are read. Their IDs are streamed in batches and each batch is moved with one
+ * conditional updateMulti. One {@link LeaseStatusesChangedEvent} is published per batch for the
+ * leases the update changed, identified by the run's statusUpdatedAt stamp. A failed run leaves its
+ * remaining leases mismatched, so the next run picks them up.
+ */
+@Component
+public class LeaseLifecycleJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaseLifecycleJob.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public LeaseLifecycleJob(MongoTemplate mongoTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${lease.lifecycle.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Catches up on boundaries passed while the application was down.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        run();
+    }
+
+    @Scheduled(cron = "${lease.lifecycle.cron:0 5 0 * * *}")
+    public synchronized void run() {
+        LocalDate today = LocalDate.now();
+        // Truncated so the stamp survives the round-trip through MongoDB's millisecond dates unchanged.
+        LocalDateTime runAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        try {
+            int activated = transition(activationCriteria(today), "status_end_date", Lease.STATUS_ACTIVE, runAt);
+            int expired = transition(expirationCriteria(today), "status_end_date", Lease.STATUS_EXPIRED, runAt);
+            int pending = transition(pendingCriteria(today), "status_start_date", Lease.STATUS_PENDING, runAt);
+            logger.info("[LeaseLifecycleJob] Lease statuses corrected for {}: {} activated, {} expired, {} pending",
+                    today, activated, expired, pending);
+        } catch (RuntimeException e) {
+            logger.error("[LeaseLifecycleJob] Lease lifecycle run failed: {}", e.getMessage());
+        }
+    }
+
+    /** Started and not yet ended, but not ACTIVE. Expired leases whose end date was extended come back. */
+    private static Criteria activationCriteria(LocalDate today) {
+        return Criteria.where("status").nin(Lease.STATUS_ACTIVE, Lease.STATUS_TERMINATED)
+                .and("endDate").gte(today).and("startDate").lte(today);
+    }
+
+    /** Ended before today, but not EXPIRED. */
+    private static Criteria expirationCriteria(LocalDate today) {
+        return Criteria.where("status").nin(Lease.STATUS_EXPIRED, Lease.STATUS_TERMINATED)
+                .and("endDate").lt(today);
+    }
+
+    /** Not started yet, but not PENDING. */
+    private static Criteria pendingCriteria(LocalDate today) {
+        return Criteria.where("status").nin(Lease.STATUS_PENDING, Lease.STATUS_TERMINATED)
+                .and("startDate").gt(today);
+    }
+
+    private int transition(Criteria criteria, String index, String status, LocalDateTime runAt) {
+        Query query = new Query(criteria).withHint(index);
+        query.fields().include("_id", "landlordId", "tenantId", "propertyId", "status");
+        query.cursorBatchSize(batchSize);
+        int changed = 0;
+        Map<String, Lease> batch = new HashMap<>();
+        try (Stream<Lease> leases = mongoTemplate.stream(query, Lease.class)) {
+            Iterator<Lease> iterator = leases.iterator();
+            while (iterator.hasNext()) {
+                Lease lease = iterator.next();
+                batch.put(lease.getId(), lease);
+                if (batch.size() >= batchSize) {
+                    changed += transitionBatch(criteria, batch, status, runAt);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            changed += transitionBatch(criteria, batch, status, runAt);
+        }
+        return changed;
+    }
+
+    private int transitionBatch(Criteria criteria, Map<String, Lease> batch, String status, LocalDateTime runAt) {
+        List<String> ids = new ArrayList<>(batch.keySet());
+        // Re-applying the criteria keeps a lease edited since it was read from being moved.
+        long modified = mongoTemplate.updateMulti(
+                new Query(new Criteria().andOperator(criteria, Criteria.where("_id").in(ids))),
+                new Update().set("status", status).set("statusUpdatedAt", runAt),
+                Lease.class).getModifiedCount();
+        if (modified == 0) {
+            return 0;
+        }
+        Query changedQuery = new Query(Criteria.where("_id").in(ids).and("status").is(status).and("statusUpdatedAt").is(runAt));
+        changedQuery.fields().include("_id");
+        List<Lease> changed = mongoTemplate.find(changedQuery, Lease.class);
+        List<LeaseStatusesChangedEvent.Transition> transitions = new ArrayList<>(changed.size());
+        for (Lease lease : changed) {
+            Lease before = batch.get(lease.getId());
+            transitions.add(new LeaseStatusesChangedEvent.Transition(before.getId(), before.getLandlordId(),
+                    before.getTenantId(), before.getPropertyId(), before.getStatus()));
+        }
+        if (!transitions.isEmpty()) {
+            eventPublisher.publishEvent(new LeaseStatusesChangedEvent(status, transitions));
+        }
+        return changed.size();
+    }
+}
@@ -0,0 +1,180 @@
+package com.rentalconnects.backend.job;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.result.UpdateResult;
+import com.rentalconnects.backend.model.Lease;
+import com.rentalconnects.backend.model.Notification;
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.repository.PropertyRepository;
+import com.rentalconnects.backend.service.NotificationService;
+
+/**
+ * Daily renewal reminders for leases entering the 30, 14 and 7 day windows before their end date.
+ *
+ * Windows are processed tightest first. Each one streams the IDs of matching leases from the
+ * endDate index and handles them in batches: a conditional multi-update claims the leases not
+ * yet reminded for the window, recording it (and every wider window) in renewalRemindersSent
+ * along with a claim token, and only the leases carrying that token are notified. Reruns and
+ * concurrent instances therefore never remind twice, and a lease first seen inside the 7 day
+ * window gets one reminder rather than three. Claims are released when sending fails, so the
+ * next run retries them.
+ *
+ * The windows in renewalRemindersSent count only for the end date stored next to them in
+ * renewalRemindersEndDate. When a lease's end date moves, the first batch to see it clears the
+ * list, so the new end date gets its own reminders.
+ */
+@Component
+public class LeaseRenewalReminderJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaseRenewalReminderJob.class);
+
+    static final List<Integer> WINDOWS_DAYS = List.of(7, 14, 30);
+    private static final String CLOSED_STATUSES = "^(terminated|expired)$";
+
+    private final MongoTemplate mongoTemplate;
+    private final PropertyRepository propertyRepository;
+    private final NotificationService notificationService;
+    private final int batchSize;
+
+    public LeaseRenewalReminderJob(MongoTemplate mongoTemplate,
+                                   PropertyRepository propertyRepository,
+                                   NotificationService notificationService,
+                                   @Value("${lease.renewal-reminders.batch-size:200}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.propertyRepository = propertyRepository;
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${lease.renewal-reminders.cron:0 0 7 * * *}")
+    public void sendReminders() {
+        LocalDate today = LocalDate.now();
+        for (int window : WINDOWS_DAYS) {
+            try {
+                int reminded = remindWindow(window, today);
+                logger.info("[LeaseRenewalReminderJob] Sent {}-day renewal reminders for {} leases", window, reminded);
+            } catch (RuntimeException e) {
+                logger.error("[LeaseRenewalReminderJob] Failed to send {}-day renewal reminders: {}", window, e.getMessage());
+            }
+        }
+    }
+
+    private int remindWindow(int window, LocalDate today) {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("endDate").gte(today).lte(today.plusDays(window))
+                        .and("status").not().regex(CLOSED_STATUSES, "i"),
+                new Criteria().orOperator(Criteria.where("renewalRemindersSent").ne(window), endDateMoved())));
+        query.fields().include("_id");
+        query.cursorBatchSize(batchSize);
+
+        int reminded = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        try (Stream<Lease> leases = mongoTemplate.stream(query, Lease.class)) {
+            Iterator<Lease> iterator = leases.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next().getId());
+                if (batch.size() >= batchSize) {
+                    reminded += remindBatch(window, batch, today);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            reminded += remindBatch(window, batch, today);
+        }
+        return reminded;
+    }
+
+    private int remindBatch(int window, List<String> leaseIds, LocalDate today) {
+        resetMovedEndDates(leaseIds);
+        String claim = UUID.randomUUID().toString();
+        Object[] windows = WINDOWS_DAYS.stream().filter(days -> days >= window).toArray();
+        UpdateResult result = mongoTemplate.updateMulti(
+                new Query(Criteria.where("_id").in(leaseIds).and("renewalRemindersSent").ne(window)),
+                new Update().addToSet("renewalRemindersSent").each(windows).set("renewalReminderClaim", claim),
+                Lease.class);
+        if (result.getModifiedCount() == 0) {
+            return 0;
+        }
+
+        List<Lease> claimed = mongoTemplate.find(
+                new Query(Criteria.where("_id").in(leaseIds).and("renewalReminderClaim").is(claim)), Lease.class);
+        Set<String> propertyIds = new HashSet<>();
+        claimed.forEach(lease -> propertyIds.add(lease.getPropertyId()));
+        Map<String, Property> properties = propertyRepository.findTitlesByIdIn(propertyIds).stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+
+        List<Notification> notifications = new ArrayList<>(claimed.size() * 2);
+        for (Lease lease : claimed) {
+            Property property = properties.get(lease.getPropertyId());
+            String title = property != null && property.getTitle() != null ? property.getTitle() : "your property";
+            long daysLeft = ChronoUnit.DAYS.between(today, lease.getEndDate());
+            String when = " ends on " + lease.getEndDate() + " (in " + daysLeft + (daysLeft == 1 ? " day)" : " days)");
+            Notification landlordNotification = new Notification();
+            landlordNotification.setRecipientId(lease.getLandlordId());
+            landlordNotification.setLandlordId(lease.getLandlordId());
+            landlordNotification.setMessage("Lease for " + title + when + ". Consider contacting your tenant about renewal.");
+            notifications.add(landlordNotification);
+            Notification tenantNotification = new Notification();
+            tenantNotification.setRecipientId(lease.getTenantId());
+            tenantNotification.setTenantId(lease.getTenantId());
+            tenantNotification.setMessage("Your lease for " + title + when + ". Contact your landlord if you would like to renew.");
+            notifications.add(tenantNotification);
+        }
+        try {
+            notificationService.sendNotifications(notifications);
+            return claimed.size();
+        } catch (RuntimeException e) {
+            List<String> claimedIds = claimed.stream().map(Lease::getId).collect(Collectors.toList());
+            mongoTemplate.updateMulti(new Query(Criteria.where("_id").in(claimedIds)),
+                    new Update().pullAll("renewalRemindersSent", windows), Lease.class);
+            throw new RuntimeException("Failed to send renewal reminders", e);
+        }
+    }
+
+    /**
+     * Records the current end date of leases whose reminders were sent for another one, dropping
+     * those reminders. Leases reminded before end dates were recorded keep their windows.
+     */
+    private void resetMovedEndDates(List<String> leaseIds) {
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("renewalRemindersSent").toValue(ConditionalOperators
+                        .when(ComparisonOperators.valueOf(ConditionalOperators.ifNull("renewalRemindersEndDate").thenValueOf("endDate"))
+                                .equalTo("endDate"))
+                        .thenValueOf("renewalRemindersSent")
+                        .otherwise(List.of()))
+                .set("renewalRemindersEndDate").toValueOf(Fields.field("endDate"));
+        mongoTemplate.updateMulti(new Query(new Criteria().andOperator(Criteria.where("_id").in(leaseIds), endDateMoved())),
+                update, Lease.class);
+    }
+
+    private static Criteria endDateMoved() {
+        return Criteria.expr(ComparisonOperators.valueOf("renewalRemindersEndDate").notEqualTo("endDate"));
+    }
+}
@@ -0,0 +1,261 @@
+package com.rentalconnects.backend.job;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.rentalconnects.backend.model.Payment;
+import com.rentalconnects.backend.model.ReconciliationReport;
+import com.rentalconnects.backend.model.Transaction;
+import com.rentalconnects.backend.repository.JobCheckpointRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Nightly reconciliation of payments against the transactions copied from them.
+ *
+ * A transaction reuses its payment's ID, so both collections are streamed in _id order and
+ * merge-joined, holding one document of each side in memory at a time. A COMPLETED payment
+ * without a transaction, or a transaction whose copied fields differ from its payment, is
+ * repaired with an upsert; repairs are sent in unordered bulk writes of up to a batch each.
+ * Transactions without a payment are reported only, since removing financial records is
+ * left to a person. The run is a {@link DailyJobRunner} pass that checkpoints the last ID it
+ * finished after every batch, so a run that stops partway resumes after it. Each run
+ * stores a {@link ReconciliationReport} and updates the "payments.reconciliation.*" metrics.
+ */
+@Component
+public class PaymentReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentReconciliationJob.class);
+
+    static final String JOB_NAME = "payment-reconciliation";
+
+    private static final int SAMPLE_SIZE = 100;
+    private static final int OBJECT_ID_TYPE = 7;
+
+    private final MongoTemplate mongoTemplate;
+    private final DailyJobRunner dailyRunner;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    public PaymentReconciliationJob(MongoTemplate mongoTemplate,
+                                    JobLockManager lockManager,
+                                    JobCheckpointRepository checkpointRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${payments.reconciliation.batch-size:1000}") int batchSize,
+                                    @Value("${payments.reconciliation.lock-ttl-ms:300000}") long lockTtlMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.dailyRunner = new DailyJobRunner(JOB_NAME, lockManager, checkpointRepository, Duration.ofMillis(lockTtlMillis));
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Finishes a run interrupted by a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        run();
+    }
+
+    @Scheduled(cron = "${payments.reconciliation.cron:0 0 3 * * *}")
+    public synchronized void run() {
+        ReconciliationReport report = new ReconciliationReport();
+        report.setStartedAt(LocalDateTime.now());
+        long start = System.nanoTime();
+        try {
+            if (!dailyRunner.run(LocalDate.now(), pass -> {
+                report.setResumedAfter(pass.getResumeAfter());
+                reconcile(report, pass);
+            })) {
+                return;
+            }
+            report.setComplete(true);
+            logger.info("[PaymentReconciliationJob] Compared {} payments with {} transactions: {} missing, {} mismatched, {} orphaned, {} repaired",
+                    report.getPaymentsScanned(), report.getTransactionsScanned(), report.getMissing(),
+                    report.getMismatched(), report.getOrphaned(), report.getRepaired());
+        } catch (RuntimeException e) {
+            logger.error("[PaymentReconciliationJob] Reconciliation failed, will resume from the last finished batch: {}", e.getMessage());
+        } finally {
+            if (report.isComplete() || report.getPaymentsScanned() + report.getTransactionsScanned() > 0) {
+                saveReport(report, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void reconcile(ReconciliationReport report, DailyJobRunner.Pass pass) {
+        String resumeAfter = pass.getResumeAfter();
+        Query payments = new Query(afterCriteria(resumeAfter)).with(Sort.by("_id"));
+        payments.fields().include("_id", "tenantId", "landlordId", "leaseId", "amount", "paymentDate", "status", "name", "apt");
+        payments.cursorBatchSize(batchSize);
+        Query transactions = new Query(afterCriteria(resumeAfter)).with(Sort.by("_id"));
+        transactions.fields().include("_id", "tenantId", "landlordId", "propertyId", "amount", "transactionDate", "status");
+        transactions.cursorBatchSize(batchSize);
+
+        try (Stream<Payment> paymentStream = mongoTemplate.stream(payments, Payment.class);
+             Stream<Transaction> transactionStream = mongoTemplate.stream(transactions, Transaction.class)) {
+            Iterator<Payment> paymentIterator = paymentStream.iterator();
+            Iterator<Transaction> transactionIterator = transactionStream.iterator();
+            Payment payment = paymentIterator.hasNext() ? paymentIterator.next() : null;
+            Transaction transaction = transactionIterator.hasNext() ? transactionIterator.next() : null;
+            BulkOperations repairs = null;
+            int pendingRepairs = 0;
+            int stepsSinceCheckpoint = 0;
+            String lastId = null;
+
+            while (payment != null || transaction != null) {
+                int order = payment == null ? 1 : transaction == null ? -1 : compareIds(payment.getId(), transaction.getId());
+                Payment toRepair = null;
+                if (order < 0) {
+                    report.setPaymentsScanned(report.getPaymentsScanned() + 1);
+                    if (Payment.STATUS_COMPLETED.equals(payment.getStatus())) {
+                        report.setMissing(report.getMissing() + 1);
+                        sample(report.getMissingSample(), payment.getId());
+                        toRepair = payment;
+                    }
+                    lastId = payment.getId();
+                    payment = paymentIterator.hasNext() ? paymentIterator.next() : null;
+                } else if (order > 0) {
+                    report.setTransactionsScanned(report.getTransactionsScanned() + 1);
+                    report.setOrphaned(report.getOrphaned() + 1);
+                    sample(report.getOrphanedSample(), transaction.getId());
+                    lastId = transaction.getId();
+                    transaction = transactionIterator.hasNext() ? transactionIterator.next() : null;
+                } else {
+                    report.setPaymentsScanned(report.getPaymentsScanned() + 1);
+                    report.setTransactionsScanned(report.getTransactionsScanned() + 1);
+                    if (!matches(payment, transaction)) {
+                        report.setMismatched(report.getMismatched() + 1);
+                        sample(report.getMismatchedSample(), payment.getId());
+                        toRepair = payment;
+                    }
+                    lastId = payment.getId();
+                    payment = paymentIterator.hasNext() ? paymentIterator.next() : null;
+                    transaction = transactionIterator.hasNext() ? transactionIterator.next() : null;
+                }
+
+                if (toRepair != null) {
+                    if (repairs == null) {
+                        repairs = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Transaction.class);
+                    }
+                    repairs.upsert(Query.query(Criteria.where("_id").is(toRepair.getId())), repairUpdate(toRepair));
+                    pendingRepairs++;
+                }
+                if (++stepsSinceCheckpoint >= batchSize || pendingRepairs >= batchSize) {
+                    report.setRepaired(report.getRepaired() + flush(repairs, pendingRepairs));
+                    repairs = null;
+                    pendingRepairs = 0;
+                    stepsSinceCheckpoint = 0;
+                    pass.checkpoint(lastId);
+                }
+            }
+            report.setRepaired(report.getRepaired() + flush(repairs, pendingRepairs));
+        }
+    }
+
+    /**
+     * Documents after the checkpointed ID in MongoDB's _id order, where string IDs sort before
+     * ObjectIds.
+     */
+    private static Criteria afterCriteria(String resumeAfter) {
+        if (resumeAfter == null) {
+            return new Criteria();
+        }
+        if (ObjectId.isValid(resumeAfter)) {
+            return Criteria.where("_id").gt(new ObjectId(resumeAfter));
+        }
+        return new Criteria().orOperator(
+                Criteria.where("_id").gt(resumeAfter),
+                Criteria.where("_id").type(OBJECT_ID_TYPE));
+    }
+
+    /** Orders IDs the way MongoDB sorts them: plain strings first, then ObjectIds by their hex form. */
+    private static int compareIds(String left, String right) {
+        boolean leftObjectId = ObjectId.isValid(left);
+        boolean rightObjectId = ObjectId.isValid(right);
+        if (leftObjectId != rightObjectId) {
+            return leftObjectId ? 1 : -1;
+        }
+        return leftObjectId ? left.toLowerCase().compareTo(right.toLowerCase()) : left.compareTo(right);
+    }
+
+    /** Compares the fields {@code TransactionServiceImpl.createTransactionFromPayment} copies. */
+    private static boolean matches(Payment payment, Transaction transaction) {
+        return Objects.equals(payment.getTenantId(), transaction.getTenantId())
+                && Objects.equals(payment.getLandlordId(), transaction.getLandlordId())
+                && Objects.equals(payment.getLeaseId(), transaction.getPropertyId())
+                && Objects.equals(payment.getAmount(), transaction.getAmount())
+                && Objects.equals(payment.getPaymentDate(), transaction.getTransactionDate())
+                && Objects.equals(payment.getStatus(), transaction.getStatus());
+    }
+
+    private static Update repairUpdate(Payment payment) {
+        return new Update()
+                .set("tenantId", payment.getTenantId())
+                .set("landlordId", payment.getLandlordId())
+                .set("propertyId", payment.getLeaseId())
+                .set("amount", payment.getAmount())
+                .set("transactionDate", payment.getPaymentDate())
+                .set("status", payment.getStatus())
+                .set("tenantName", payment.getName())
+                .set("propertyName", payment.getApt())
+                .setOnInsert("type", Payment.TYPE_RENT);
+    }
+
+    private long flush(BulkOperations repairs, int pendingRepairs) {
+        if (repairs == null || pendingRepairs == 0) {
+            return 0;
+        }
+        BulkWriteResult result = repairs.execute();
+        return result.getUpserts().size() + result.getModifiedCount();
+    }
+
+    private static void sample(List<String> sample, String id) {
+        if (sample.size() < SAMPLE_SIZE) {
+            sample.add(id);
+        }
+    }
+
+    private void saveReport(ReconciliationReport report, long elapsedNanos) {
+        report.setFinishedAt(LocalDateTime.now());
+        counter("missing").increment(report.getMissing());
+        counter("mismatched").increment(report.getMismatched());
+        counter("orphaned").increment(report.getOrphaned());
+        Counter.builder("payments.reconciliation.repaired").register(meterRegistry).increment(report.getRepaired());
+        Timer.builder("payments.reconciliation.duration")
+                .tag("outcome", report.isComplete() ? "complete" : "failed")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsedNanos));
+        try {
+            mongoTemplate.insert(report);
+        } catch (RuntimeException e) {
+            logger.error("[PaymentReconciliationJob] Failed to store reconciliation report: {}", e.getMessage());
+        }
+    }
+
+    private Counter counter(String kind) {
+        return Counter.builder("payments.reconciliation.discrepancies").tag("kind", kind).register(meterRegistry);
+    }
+}
@@ -0,0 +1,327 @@
+package com.rentalconnects.backend.job;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.model.JobCheckpoint;
+import com.rentalconnects.backend.model.Lease;
+import com.rentalconnects.backend.model.Payment;
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.model.User;
+import com.rentalconnects.backend.repository.JobCheckpointRepository;
+import com.rentalconnects.backend.repository.PropertyRepository;
+import com.rentalconnects.backend.repository.UserRepository;
+import com.rentalconnects.backend.service.LedgerService;
+
+/**
+ * Generates the month's rent invoices: one PENDING {@link Payment} per ACTIVE lease and period.
+ *
+ * Leases are split into a fixed number of contiguous _id ranges of similar size, so each
+ * partition is read through the _id index. The range boundaries are computed once per period
+ * by the first instance to run and stored, so every instance and every daily rerun of the
+ * period agrees on them; leases created later fall into the last range. Every instance walks
+ * the partitions in random order, processing those it can lock through
+ * {@link JobLockManager} and that have not been done today. A partition's leases are streamed
+ * in batches and each batch is written with one unordered bulk insert. The unique
+ * (leaseId, period) index makes the insert idempotent: invoices that already exist are
+ * rejected as duplicates and counted as done, so reruns and overlapping instances never bill
+ * a lease twice. Every invoice of a batch, new or existing, is then charged to the lease
+ * ledger, which skips charges it already holds. The job runs daily so leases activated
+ * mid-month are invoiced too.
+ */
+@Component
+public class RentInvoicingJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RentInvoicingJob.class);
+
+    static final String JOB_NAME = "rent-invoicing";
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final JobLockManager lockManager;
+    private final JobCheckpointRepository checkpointRepository;
+    private final UserRepository userRepository;
+    private final PropertyRepository propertyRepository;
+    private final LedgerService ledgerService;
+    private final int partitions;
+    private final int batchSize;
+    private final Duration lockTtl;
+    private final String owner = UUID.randomUUID().toString();
+
+    public RentInvoicingJob(MongoTemplate mongoTemplate,
+                            JobLockManager lockManager,
+                            JobCheckpointRepository checkpointRepository,
+                            UserRepository userRepository,
+                            PropertyRepository propertyRepository,
+                            LedgerService ledgerService,
+                            @Value("${rent.invoicing.partitions:16}") int partitions,
+                            @Value("${rent.invoicing.batch-size:1000}") int batchSize,
+                            @Value("${rent.invoicing.lock-ttl-ms:300000}") long lockTtlMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.lockManager = lockManager;
+        this.checkpointRepository = checkpointRepository;
+        this.userRepository = userRepository;
+        this.propertyRepository = propertyRepository;
+        this.ledgerService = ledgerService;
+        this.partitions = partitions;
+        this.batchSize = batchSize;
+        this.lockTtl = Duration.ofMillis(lockTtlMillis);
+    }
+
+    /**
+     * Catches up on a run missed while the application was down.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        run();
+    }
+
+    @Scheduled(cron = "${rent.invoicing.cron:0 10 0 * * *}")
+    public synchronized void run() {
+        LocalDate today = LocalDate.now();
+        YearMonth period = YearMonth.from(today);
+        List<ObjectId> boundaries;
+        try {
+            boundaries = boundaries(period);
+        } catch (RuntimeException e) {
+            logger.error("[RentInvoicingJob] Failed to partition leases for {}: {}", period, e.getMessage());
+            return;
+        }
+        List<Integer> order = IntStream.range(0, partitions).boxed().collect(Collectors.toList());
+        // Random order spreads concurrent instances over different partitions.
+        Collections.shuffle(order);
+        int created = 0;
+        int processed = 0;
+        for (int partition : order) {
+            String name = JOB_NAME + "-" + partition;
+            if (isDone(name, today) || !lockManager.tryAcquire(name, owner, lockTtl)) {
+                continue;
+            }
+            try {
+                // Another instance may have finished the partition between the check and the lock.
+                if (isDone(name, today)) {
+                    continue;
+                }
+                created += invoicePartition(name, boundaries, partition, period);
+                checkpointRepository.save(new JobCheckpoint(name, today));
+                processed++;
+            } catch (RuntimeException e) {
+                logger.error("[RentInvoicingJob] Failed to invoice partition {} for {}: {}", partition, period, e.getMessage());
+            } finally {
+                lockManager.release(name, owner);
+            }
+        }
+        if (processed > 0) {
+            logger.info("[RentInvoicingJob] Created {} rent invoices for {} across {} partitions", created, period, processed);
+        }
+    }
+
+    private boolean isDone(String name, LocalDate today) {
+        return checkpointRepository.findById(name)
+                .map(checkpoint -> !checkpoint.getLastProcessedDate().isBefore(today))
+                .orElse(false);
+    }
+
+    /** ACTIVE leases with rent that overlap the period. */
+    private static Criteria billableCriteria(YearMonth period) {
+        return Criteria.where("status").is(Lease.STATUS_ACTIVE)
+                .and("startDate").lte(period.atEndOfMonth())
+                .and("endDate").gte(period.atDay(1))
+                .and("monthlyRent").gt(0);
+    }
+
+    /**
+     * Returns the period's partition boundaries: partition i holds the lease IDs from boundary
+     * i - 1 (inclusive) up to boundary i (exclusive), the first and last partitions being open
+     * ended. Boundaries are stored as a checkpoint named after the period, whose position lists
+     * them; the first instance to insert it wins and the others read its boundaries.
+     */
+    private List<ObjectId> boundaries(YearMonth period) {
+        String name = JOB_NAME + "-boundaries-" + period;
+        Optional<JobCheckpoint> stored = checkpointRepository.findById(name);
+        if (stored.isEmpty()) {
+            JobCheckpoint computed = new JobCheckpoint(name, period.atDay(1));
+            computed.setPosition(computeBoundaries(period).stream().map(ObjectId::toHexString).collect(Collectors.joining(",")));
+            try {
+                stored = Optional.of(checkpointRepository.insert(computed));
+            } catch (DuplicateKeyException e) {
+                stored = checkpointRepository.findById(name);
+            }
+        }
+        String position = stored.map(JobCheckpoint::getPosition).orElse("");
+        return position.isEmpty() ? List.of()
+                : Arrays.stream(position.split(",")).map(ObjectId::new).collect(Collectors.toList());
+    }
+
+    /** Splits the period's billable lease IDs into up to {@code partitions} buckets of similar size. */
+    private List<ObjectId> computeBoundaries(YearMonth period) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(billableCriteria(period)),
+                Aggregation.project("_id"),
+                Aggregation.bucketAuto("_id", partitions))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        return mongoTemplate.aggregate(aggregation, Lease.class, Document.class).getMappedResults().stream()
+                .skip(1)
+                .map(bucket -> bucket.get("_id", Document.class).get("min"))
+                .filter(ObjectId.class::isInstance)
+                .map(ObjectId.class::cast)
+                .collect(Collectors.toList());
+    }
+
+    private int invoicePartition(String lockName, List<ObjectId> boundaries, int partition, YearMonth period) {
+        if (partition > boundaries.size()) {
+            // Fewer leases than partitions: this range is empty.
+            return 0;
+        }
+        Query query = new Query(new Criteria().andOperator(billableCriteria(period), partitionCriteria(boundaries, partition)));
+        query.fields().include("_id", "tenantId", "landlordId", "propertyId", "startDate", "monthlyRent");
+        query.cursorBatchSize(batchSize);
+        int created = 0;
+        List<Lease> batch = new ArrayList<>(batchSize);
+        try (Stream<Lease> leases = mongoTemplate.stream(query, Lease.class)) {
+            Iterator<Lease> iterator = leases.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() >= batchSize) {
+                    created += insertInvoices(batch, period);
+                    batch.clear();
+                    if (!lockManager.tryAcquire(lockName, owner, lockTtl)) {
+                        throw new RuntimeException("Lost lock " + lockName);
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            created += insertInvoices(batch, period);
+        }
+        return created;
+    }
+
+    /**
+     * Matches the partition's _id range. IDs stored as strings rather than ObjectIds, which
+     * ObjectId ranges never match, all land in partition 0.
+     */
+    private static Criteria partitionCriteria(List<ObjectId> boundaries, int partition) {
+        if (boundaries.isEmpty()) {
+            return new Criteria();
+        }
+        if (partition == 0) {
+            return new Criteria().orOperator(Criteria.where("_id").lt(boundaries.get(0)),
+                    Criteria.where("_id").type(JsonSchemaObject.Type.STRING));
+        }
+        Criteria range = Criteria.where("_id").gte(boundaries.get(partition - 1));
+        return partition < boundaries.size() ? range.lt(boundaries.get(partition)) : range;
+    }
+
+    /**
+     * Bulk-inserts the batch's invoices and charges them to the lease ledgers.
+     *
+     * @return The number of invoices created; duplicates of existing invoices are skipped.
+     */
+    private int insertInvoices(List<Lease> leases, YearMonth period) {
+        int created = bulkInsert(invoices(leases, period));
+        // Charging what is stored rather than what was just built also covers invoices
+        // created by an earlier run that stopped before charging them.
+        Query stored = new Query(Criteria.where("leaseId").in(leases.stream().map(Lease::getId).collect(Collectors.toList()))
+                .and("period").is(period.toString()));
+        stored.fields().include("_id", "leaseId", "landlordId", "tenantId", "amount", "period", "name");
+        ledgerService.recordCharges(mongoTemplate.find(stored, Payment.class));
+        return created;
+    }
+
+    private List<Payment> invoices(List<Lease> leases, YearMonth period) {
+        Set<String> tenantIds = new HashSet<>();
+        Set<String> propertyIds = new HashSet<>();
+        for (Lease lease : leases) {
+            if (lease.getTenantId() != null) {
+                tenantIds.add(lease.getTenantId());
+            }
+            if (lease.getPropertyId() != null) {
+                propertyIds.add(lease.getPropertyId());
+            }
+        }
+        Map<String, User> tenants = userRepository.findNamesByIdIn(tenantIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<String, Property> properties = propertyRepository.findTitlesByIdIn(propertyIds).stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Payment> invoices = new ArrayList<>(leases.size());
+        for (Lease lease : leases) {
+            User tenant = tenants.get(lease.getTenantId());
+            Property property = properties.get(lease.getPropertyId());
+            Payment invoice = new Payment();
+            invoice.setTenantId(lease.getTenantId());
+            invoice.setLandlordId(lease.getLandlordId());
+            invoice.setLeaseId(lease.getId());
+            invoice.setAmount(lease.getMonthlyRent());
+            invoice.setName(tenant != null ? tenant.getFullName() : null);
+            invoice.setApt(property != null ? property.getTitle() : null);
+            invoice.setStatus(Payment.STATUS_PENDING);
+            invoice.setType(Payment.TYPE_RENT);
+            invoice.setPeriod(period.toString());
+            invoice.setDueDate(dueDate(lease, period));
+            invoice.setCreatedAt(now);
+            invoice.setUpdatedAt(now);
+            invoice.setVersion(0L);
+            invoices.add(invoice);
+        }
+        return invoices;
+    }
+
+    private int bulkInsert(List<Payment> invoices) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Payment.class);
+        bulkOps.insert(invoices);
+        try {
+            return bulkOps.execute().getInsertedCount();
+        } catch (BulkOperationException e) {
+            long failed = e.getErrors().stream().filter(error -> error.getCode() != DUPLICATE_KEY).count();
+            if (failed > 0) {
+                throw new RuntimeException("Failed to insert " + failed + " rent invoices", e);
+            }
+            return e.getResult().getInsertedCount();
+        }
+    }
+
+    /** The lease's start day within the period, clamped to the end of shorter months. */
+    private static LocalDate dueDate(Lease lease, YearMonth period) {
+        int day = lease.getStartDate() != null ? lease.getStartDate().getDayOfMonth() : 1;
+        return period.atDay(Math.min(day, period.lengthOfMonth()));
+    }
+}
@@ -0,0 +1,132 @@
+package com.rentalconnects.backend.migration;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.model.JobCheckpoint;
+import com.rentalconnects.backend.model.LedgerEntry;
+import com.rentalconnects.backend.model.Payment;
+import com.rentalconnects.backend.repository.JobCheckpointRepository;
+import com.rentalconnects.backend.service.LedgerService;
+
+/**
+ * Seeds the lease ledgers from payments recorded before the ledger existed: every rent invoice
+ * on a lease that has not failed becomes a charge, and every completed payment a payment.
+ * Failed payments owe nothing and are skipped. Ledgers seeded before failed payments were skipped, or charged
+ * before failures voided their charge, have those charges voided by a second step. Ledger
+ * references make reruns safe; a checkpoint per step keeps it from running again once it has
+ * completed.
+ */
+@Component
+public class LedgerBackfillMigration implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerBackfillMigration.class);
+    private static final String JOB_NAME = "ledger-backfill";
+    private static final String VOID_FAILED_JOB_NAME = "ledger-void-failed";
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final LedgerService ledgerService;
+    private final JobCheckpointRepository checkpointRepository;
+
+    public LedgerBackfillMigration(MongoTemplate mongoTemplate, LedgerService ledgerService,
+                                   JobCheckpointRepository checkpointRepository) {
+        this.mongoTemplate = mongoTemplate;
+        this.ledgerService = ledgerService;
+        this.checkpointRepository = checkpointRepository;
+    }
+
+    @Override
+    public void run(String... args) {
+        backfill();
+        voidFailedCharges();
+    }
+
+    private void backfill() {
+        if (checkpointRepository.existsById(JOB_NAME)) {
+            return;
+        }
+        logger.info("Running ledger backfill migration...");
+        Query query = new Query(Criteria.where("leaseId").ne(null).and("status").ne(Payment.STATUS_FAILED));
+        query.fields().include("_id", "leaseId", "landlordId", "tenantId", "amount", "status", "period", "dueDate", "name");
+        query.cursorBatchSize(BATCH_SIZE);
+        int processed = 0;
+        List<Payment> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<Payment> payments = mongoTemplate.stream(query, Payment.class)) {
+            Iterator<Payment> iterator = payments.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE) {
+                    processed += record(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            processed += record(batch);
+        }
+        checkpointRepository.save(new JobCheckpoint(JOB_NAME, LocalDate.now()));
+        logger.info("Ledger backfill migration completed: {} payments recorded.", processed);
+    }
+
+    private void voidFailedCharges() {
+        if (checkpointRepository.existsById(VOID_FAILED_JOB_NAME)) {
+            return;
+        }
+        Query query = new Query(Criteria.where("leaseId").ne(null).and("status").is(Payment.STATUS_FAILED));
+        query.fields().include("_id", "leaseId", "landlordId", "tenantId", "amount", "status", "period", "dueDate");
+        query.cursorBatchSize(BATCH_SIZE);
+        int voided = 0;
+        List<Payment> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<Payment> payments = mongoTemplate.stream(query, Payment.class)) {
+            Iterator<Payment> iterator = payments.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE) {
+                    voided += voidCharged(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            voided += voidCharged(batch);
+        }
+        checkpointRepository.save(new JobCheckpoint(VOID_FAILED_JOB_NAME, LocalDate.now()));
+        logger.info("Voided the ledger charges of {} failed payments.", voided);
+    }
+
+    /** Voids the charges of those failed payments that were charged. */
+    private int voidCharged(List<Payment> payments) {
+        Query charged = new Query(Criteria.where("reference")
+                .in(payments.stream().map(payment -> "charge:" + payment.getId()).collect(Collectors.toList())));
+        charged.fields().include("reference");
+        Set<String> references = mongoTemplate.find(charged, LedgerEntry.class).stream()
+                .map(LedgerEntry::getReference).collect(Collectors.toSet());
+        List<Payment> voided = payments.stream()
+                .filter(payment -> references.contains("charge:" + payment.getId()))
+                .collect(Collectors.toList());
+        voided.forEach(ledgerService::recordPaymentVoided);
+        return voided.size();
+    }
+
+    private int record(List<Payment> payments) {
+        ledgerService.recordCharges(payments);
+        payments.stream()
+                .filter(payment -> Payment.STATUS_COMPLETED.equals(payment.getStatus()))
+                .forEach(ledgerService::recordPaymentReceived);
+        return payments.size();
+    }
+}
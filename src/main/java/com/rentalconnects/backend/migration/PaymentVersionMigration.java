@@ -0,0 +1,37 @@
+package com.rentalconnects.backend.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.model.Payment;
+
+/**
+ * Initializes the optimistic locking version of payments saved before it existed. Without it,
+ * saving such a payment would be treated as inserting a new one.
+ */
+@Component
+public class PaymentVersionMigration implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentVersionMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    public PaymentVersionMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(String... args) {
+        long updated = mongoTemplate.updateMulti(new Query(Criteria.where("version").exists(false)),
+                Update.update("version", 0L), Payment.class).getModifiedCount();
+        if (updated > 0) {
+            logger.info("Payment version migration completed: {} payments versioned.", updated);
+        }
+    }
+}
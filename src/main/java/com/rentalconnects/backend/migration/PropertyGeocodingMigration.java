@@ -0,0 +1,85 @@
+package com.rentalconnects.backend.migration;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.service.CollectionVersionService;
+import com.rentalconnects.backend.service.Geocoder;
+import com.rentalconnects.backend.util.GeoHash;
+
+/**
+ * Backfills the GeoJSON point and geohash of properties saved before geospatial search existed.
+ * Only properties without a geohash are read, and updates are written in bulk batches.
+ */
+@Component
+public class PropertyGeocodingMigration implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyGeocodingMigration.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final Geocoder geocoder;
+    private final CollectionVersionService collectionVersionService;
+
+    public PropertyGeocodingMigration(MongoTemplate mongoTemplate, Geocoder geocoder,
+                                      CollectionVersionService collectionVersionService) {
+        this.mongoTemplate = mongoTemplate;
+        this.geocoder = geocoder;
+        this.collectionVersionService = collectionVersionService;
+    }
+
+    @Override
+    public void run(String... args) {
+        logger.info("Running Property geocoding migration...");
+        Query query = new Query(Criteria.where("geohash").exists(false));
+        query.fields().include("address").include("location").include("geoPoint");
+        int geocoded = 0;
+        int unresolved = 0;
+        int pending = 0;
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Property.class);
+        try (Stream<Property> properties = mongoTemplate.stream(query, Property.class)) {
+            Iterator<Property> iterator = properties.iterator();
+            while (iterator.hasNext()) {
+                Property property = iterator.next();
+                Optional<GeoJsonPoint> point = Optional.ofNullable(property.getGeoPoint());
+                if (point.isEmpty()) {
+                    String address = property.getAddress() != null ? property.getAddress() : property.getLocation();
+                    point = geocoder.geocode(address);
+                }
+                if (point.isEmpty()) {
+                    unresolved++;
+                    continue;
+                }
+                String geohash = GeoHash.encode(point.get().getY(), point.get().getX(), GeoHash.STORED_PRECISION);
+                bulkOps.updateOne(Query.query(Criteria.where("_id").is(property.getId())),
+                        Update.update("geoPoint", point.get()).set("geohash", geohash).currentDate("updatedAt"));
+                geocoded++;
+                if (++pending == BATCH_SIZE) {
+                    bulkOps.execute();
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Property.class);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            bulkOps.execute();
+        }
+        if (geocoded > 0) {
+            collectionVersionService.bump(CollectionVersionService.PROPERTIES);
+        }
+        logger.info("Property geocoding migration completed: {} geocoded, {} unresolved.", geocoded, unresolved);
+    }
+}
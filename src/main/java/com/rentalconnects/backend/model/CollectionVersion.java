@@ -0,0 +1,22 @@
+package com.rentalconnects.backend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Monotonic change counter for a collection, bumped on every write to it and used to
+ * derive weak ETags for list responses. The ID is the collection name.
+ * This model is mapped to the "collection_versions" collection in MongoDB.
+ */
+@Document(collection = "collection_versions")
+public class CollectionVersion {
+
+    @Id
+    private String name;
+    private long version;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+}
@@ -0,0 +1,35 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * An exchange rate set through the admin endpoint, overriding the bundled rate file.
+ * The ID is the ISO currency code; the rate is units of base currency per unit of it.
+ * This model is mapped to the "exchange_rates" collection in MongoDB.
+ */
+@Document(collection = "exchange_rates")
+public class ExchangeRate {
+
+    @Id
+    private String currency;
+    private double rate;
+    private LocalDateTime updatedAt;
+
+    public ExchangeRate() {}
+
+    public ExchangeRate(String currency, double rate, LocalDateTime updatedAt) {
+        this.currency = currency;
+        this.rate = rate;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+    public double getRate() { return rate; }
+    public void setRate(double rate) { this.rate = rate; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
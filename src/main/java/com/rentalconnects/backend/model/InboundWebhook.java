@@ -0,0 +1,65 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A verified webhook delivery waiting to be processed by the webhook workers.
+ * The dedup key (provider, event and reference) is unique, so a provider's retries of a
+ * queued delivery are not queued again. Processed deliveries expire after 7 days; those
+ * that exhaust their attempts are moved to the "inbound_webhooks_dead" collection.
+ * This model is mapped to the "inbound_webhooks" collection in MongoDB.
+ */
+@Document(collection = "inbound_webhooks")
+@CompoundIndex(name = "status_next_attempt", def = "{'status': 1, 'nextAttemptAt': 1}")
+public class InboundWebhook {
+
+    public static final String DEAD_LETTER_COLLECTION = "inbound_webhooks_dead";
+
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_PROCESSING = "PROCESSING";
+    public static final String STATUS_DONE = "DONE";
+
+    @Id
+    private String id;
+    private String provider;
+    @Indexed(unique = true, sparse = true)
+    private String dedupKey;
+    private Map<String, Object> payload;
+    private String status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime leaseUntil;
+    private String lastError;
+    private LocalDateTime receivedAt;
+    @Indexed(expireAfter = "7d")
+    private LocalDateTime completedAt;
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getProvider() { return provider; }
+    public void setProvider(String provider) { this.provider = provider; }
+    public String getDedupKey() { return dedupKey; }
+    public void setDedupKey(String dedupKey) { this.dedupKey = dedupKey; }
+    public Map<String, Object> getPayload() { return payload; }
+    public void setPayload(Map<String, Object> payload) { this.payload = payload; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+    public LocalDateTime getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(LocalDateTime leaseUntil) { this.leaseUntil = leaseUntil; }
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+    public LocalDateTime getReceivedAt() { return receivedAt; }
+    public void setReceivedAt(LocalDateTime receivedAt) { this.receivedAt = receivedAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
@@ -0,0 +1,41 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Watermark of a scheduled job: the last date it fully processed, so the next run only
+ * handles what changed after it. Jobs that work through ordered keys also record the last
+ * key finished by a run still in progress, so a restarted run resumes after it. The ID is
+ * the job name.
+ * This model is mapped to the "job_checkpoints" collection in MongoDB.
+ */
+@Document(collection = "job_checkpoints")
+public class JobCheckpoint {
+
+    @Id
+    private String jobName;
+    private LocalDate lastProcessedDate;
+    private String position;
+    private LocalDateTime updatedAt;
+
+    public JobCheckpoint() {}
+
+    public JobCheckpoint(String jobName, LocalDate lastProcessedDate) {
+        this.jobName = jobName;
+        this.lastProcessedDate = lastProcessedDate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+    public LocalDate getLastProcessedDate() { return lastProcessedDate; }
+    public void setLastProcessedDate(LocalDate lastProcessedDate) { this.lastProcessedDate = lastProcessedDate; }
+    public String getPosition() { return position; }
+    public void setPosition(String position) { this.position = position; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
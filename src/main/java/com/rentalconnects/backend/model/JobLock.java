@@ -0,0 +1,27 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Time-limited lock on a unit of scheduled work, so only one instance processes it at a time.
+ * The ID is the lock name; a lock whose expiresAt has passed may be taken over by anyone.
+ * This model is mapped to the "job_locks" collection in MongoDB.
+ */
+@Document(collection = "job_locks")
+public class JobLock {
+
+    @Id
+    private String name;
+    private String owner;
+    private LocalDateTime expiresAt;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getOwner() { return owner; }
+    public void setOwner(String owner) { this.owner = owner; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -1,8 +1,13 @@
 package com.rentalconnects.backend.model;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.constraints.NotNull;
@@ -12,8 +17,18 @@ import jakarta.validation.constraints.NotNull;
  * This model is mapped to the "leases" collection in MongoDB.
  */
 @Document(collection = "leases")
+@CompoundIndexes({
+    @CompoundIndex(name = "landlord_end_date", def = "{'landlordId': 1, 'endDate': 1}"),
+    @CompoundIndex(name = "status_start_date", def = "{'status': 1, 'startDate': 1}"),
+    @CompoundIndex(name = "status_end_date", def = "{'status': 1, 'endDate': 1}")
+})
 public class Lease {
 
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_ACTIVE = "ACTIVE";
+    public static final String STATUS_EXPIRED = "EXPIRED";
+    public static final String STATUS_TERMINATED = "TERMINATED";
+
     @Id
     private String id;
 
@@ -27,16 +42,27 @@ public class Lease {
     private String propertyId;
 
     @NotNull(message = "Start date cannot be null")
+    @Indexed
     private LocalDate startDate;
 
     @NotNull(message = "End date cannot be null")
+    @Indexed
     private LocalDate endDate;
 
     @NotNull(message = "Monthly rent cannot be null")
     private Double monthlyRent;
 
     // Added status field to support findByStatus query in LeaseRepository
-    private String status; // Represents the lease status (e.g., "ACTIVE", "TERMINATED", "EXPIRED")
+    // Represents the lease status (PENDING, ACTIVE, EXPIRED or TERMINATED); kept current from the dates by LeaseLifecycleJob
+    @Indexed
+    private String status;
+    private LocalDateTime statusUpdatedAt;
+
+    // Renewal reminder windows (days before endDate) already notified, the end date they were sent for,
+    // and the reminder run that claimed them
+    private List<Integer> renewalRemindersSent;
+    private LocalDate renewalRemindersEndDate;
+    private String renewalReminderClaim;
 
     // Getters and Setters
     public String getId() {
@@ -102,4 +128,36 @@ public class Lease {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public LocalDateTime getStatusUpdatedAt() {
+        return statusUpdatedAt;
+    }
+
+    public void setStatusUpdatedAt(LocalDateTime statusUpdatedAt) {
+        this.statusUpdatedAt = statusUpdatedAt;
+    }
+
+    public List<Integer> getRenewalRemindersSent() {
+        return renewalRemindersSent;
+    }
+
+    public void setRenewalRemindersSent(List<Integer> renewalRemindersSent) {
+        this.renewalRemindersSent = renewalRemindersSent;
+    }
+
+    public LocalDate getRenewalRemindersEndDate() {
+        return renewalRemindersEndDate;
+    }
+
+    public void setRenewalRemindersEndDate(LocalDate renewalRemindersEndDate) {
+        this.renewalRemindersEndDate = renewalRemindersEndDate;
+    }
+
+    public String getRenewalReminderClaim() {
+        return renewalReminderClaim;
+    }
+
+    public void setRenewalReminderClaim(String renewalReminderClaim) {
+        this.renewalReminderClaim = renewalReminderClaim;
+    }
 }
\ No newline at end of file
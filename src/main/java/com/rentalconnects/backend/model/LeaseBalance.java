@@ -0,0 +1,56 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Materialized running totals of a lease's {@link LedgerEntry}s, so a balance is one document
+ * read. The ID is the lease ID. A positive balance is rent owed. Entries are added with $inc
+ * and their IDs are held in pendingEntries until the entry itself is marked applied, which
+ * keeps an interrupted append from being counted twice when it is retried.
+ * This model is mapped to the "lease_balances" collection in MongoDB.
+ */
+@Document(collection = "lease_balances")
+@CompoundIndex(name = "landlord_balance", def = "{'landlordId': 1, 'balance': -1}")
+public class LeaseBalance {
+
+    @Id
+    private String leaseId;
+    private String landlordId;
+    private String tenantId;
+    private String propertyId;
+    private double balance;
+    private double totalCharged;
+    private double totalPaid;
+    private double totalAdjusted;
+    private List<String> pendingEntries;
+    private LocalDateTime lastEntryAt;
+    private LocalDateTime updatedAt;
+
+    public String getLeaseId() { return leaseId; }
+    public void setLeaseId(String leaseId) { this.leaseId = leaseId; }
+    public String getLandlordId() { return landlordId; }
+    public void setLandlordId(String landlordId) { this.landlordId = landlordId; }
+    public String getTenantId() { return tenantId; }
+    public void setTenantId(String tenantId) { this.tenantId = tenantId; }
+    public String getPropertyId() { return propertyId; }
+    public void setPropertyId(String propertyId) { this.propertyId = propertyId; }
+    public double getBalance() { return balance; }
+    public void setBalance(double balance) { this.balance = balance; }
+    public double getTotalCharged() { return totalCharged; }
+    public void setTotalCharged(double totalCharged) { this.totalCharged = totalCharged; }
+    public double getTotalPaid() { return totalPaid; }
+    public void setTotalPaid(double totalPaid) { this.totalPaid = totalPaid; }
+    public double getTotalAdjusted() { return totalAdjusted; }
+    public void setTotalAdjusted(double totalAdjusted) { this.totalAdjusted = totalAdjusted; }
+    public List<String> getPendingEntries() { return pendingEntries; }
+    public void setPendingEntries(List<String> pendingEntries) { this.pendingEntries = pendingEntries; }
+    public LocalDateTime getLastEntryAt() { return lastEntryAt; }
+    public void setLastEntryAt(LocalDateTime lastEntryAt) { this.lastEntryAt = lastEntryAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,67 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * One append-only entry in a lease's rent ledger. Positive amounts increase what the tenant
+ * owes (charges), negative amounts decrease it (payments, credits). The reference identifies
+ * the business event behind the entry (e.g. "charge:&lt;paymentId&gt;") and is unique, so the
+ * same event is never recorded twice. Applied is set once the entry has been added to the
+ * lease's {@link LeaseBalance}.
+ * This model is mapped to the "lease_ledger_entries" collection in MongoDB.
+ */
+@Document(collection = "lease_ledger_entries")
+@CompoundIndexes({
+    @CompoundIndex(name = "lease_created", def = "{'leaseId': 1, 'createdAt': 1}"),
+    @CompoundIndex(name = "unapplied_created", def = "{'applied': 1, 'createdAt': 1}",
+            partialFilter = "{ 'applied': false }")
+})
+public class LedgerEntry {
+
+    public static final String TYPE_CHARGE = "CHARGE";
+    public static final String TYPE_PAYMENT = "PAYMENT";
+    public static final String TYPE_ADJUSTMENT = "ADJUSTMENT";
+
+    @Id
+    private String id;
+    private String leaseId;
+    private String landlordId;
+    private String tenantId;
+    private String propertyId;
+    private String type;
+    private Double amount;
+    @Indexed(unique = true)
+    private String reference;
+    private String description;
+    private boolean applied;
+    private LocalDateTime createdAt;
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getLeaseId() { return leaseId; }
+    public void setLeaseId(String leaseId) { this.leaseId = leaseId; }
+    public String getLandlordId() { return landlordId; }
+    public void setLandlordId(String landlordId) { this.landlordId = landlordId; }
+    public String getTenantId() { return tenantId; }
+    public void setTenantId(String tenantId) { this.tenantId = tenantId; }
+    public String getPropertyId() { return propertyId; }
+    public void setPropertyId(String propertyId) { this.propertyId = propertyId; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public Double getAmount() { return amount; }
+    public void setAmount(Double amount) { this.amount = amount; }
+    public String getReference() { return reference; }
+    public void setReference(String reference) { this.reference = reference; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    public boolean isApplied() { return applied; }
+    public void setApplied(boolean applied) { this.applied = applied; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
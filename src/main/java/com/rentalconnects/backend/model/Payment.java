@@ -1,8 +1,12 @@
 package com.rentalconnects.backend.model;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.constraints.NotBlank;
@@ -15,8 +19,18 @@ import jakarta.validation.constraints.Positive;
  * It tracks payment details for both tenants and landlords, including status and timestamps.
  */
 @Document(collection = "payments")
+@CompoundIndexes({
+    @CompoundIndex(name = "lease_period", def = "{'leaseId': 1, 'period': 1}", unique = true,
+            partialFilter = "{ 'period': { '$exists': true } }"),
+    @CompoundIndex(name = "status_landlord_due_date", def = "{'status': 1, 'landlordId': 1, 'dueDate': 1}")
+})
 public class Payment {
 
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String TYPE_RENT = "RENT";
+
     @Id
     private String id;
 
@@ -47,6 +61,21 @@ public class Payment {
 
     private LocalDateTime updatedAt;
 
+    private String type; // RENT for generated rent invoices; unset for ad-hoc payments
+
+    private String period; // Billing month (yyyy-MM) of a rent invoice; unique per lease
+
+    private LocalDate dueDate; // Date a rent invoice falls due
+
+    private Double lateFee; // Late fee charged on an overdue invoice
+
+    private LocalDateTime lateFeeAppliedAt; // When the late fee was charged
+
+    private String paystackReference; // Paystack reference of the callback that settled the payment
+
+    @Version
+    private Long version; // Optimistic locking; concurrent saves of a stale copy fail
+
     // Getters and Setters
 
     /**
@@ -246,4 +275,130 @@ public class Payment {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    /**
+     * Gets the payment type, RENT for generated rent invoices.
+     *
+     * @return The payment type, or null for ad-hoc payments.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the payment type.
+     *
+     * @param type The payment type to set.
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the billing month of a rent invoice.
+     *
+     * @return The period as yyyy-MM, or null for ad-hoc payments.
+     */
+    public String getPeriod() {
+        return period;
+    }
+
+    /**
+     * Sets the billing month of a rent invoice.
+     *
+     * @param period The period as yyyy-MM.
+     */
+    public void setPeriod(String period) {
+        this.period = period;
+    }
+
+    /**
+     * Gets the date a rent invoice falls due.
+     *
+     * @return The due date.
+     */
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    /**
+     * Sets the date a rent invoice falls due.
+     *
+     * @param dueDate The due date to set.
+     */
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    /**
+     * Gets the late fee charged on this invoice.
+     *
+     * @return The late fee, or null if none was charged.
+     */
+    public Double getLateFee() {
+        return lateFee;
+    }
+
+    /**
+     * Sets the late fee charged on this invoice.
+     *
+     * @param lateFee The late fee to set.
+     */
+    public void setLateFee(Double lateFee) {
+        this.lateFee = lateFee;
+    }
+
+    /**
+     * Gets the date and time the late fee was charged.
+     *
+     * @return The late fee timestamp, or null if none was charged.
+     */
+    public LocalDateTime getLateFeeAppliedAt() {
+        return lateFeeAppliedAt;
+    }
+
+    /**
+     * Sets the date and time the late fee was charged.
+     *
+     * @param lateFeeAppliedAt The late fee timestamp to set.
+     */
+    public void setLateFeeAppliedAt(LocalDateTime lateFeeAppliedAt) {
+        this.lateFeeAppliedAt = lateFeeAppliedAt;
+    }
+
+    /**
+     * Gets the Paystack reference of the callback that settled the payment.
+     *
+     * @return The Paystack reference, or null if not settled through Paystack.
+     */
+    public String getPaystackReference() {
+        return paystackReference;
+    }
+
+    /**
+     * Sets the Paystack reference of the callback that settled the payment.
+     *
+     * @param paystackReference The Paystack reference to set.
+     */
+    public void setPaystackReference(String paystackReference) {
+        this.paystackReference = paystackReference;
+    }
+
+    /**
+     * Gets the optimistic locking version.
+     *
+     * @return The version.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the optimistic locking version.
+     *
+     * @param version The version to set.
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A Paystack callback that has been accepted for processing, keyed by its Paystack reference,
+ * so retried and duplicate deliveries of the same reference are rejected by the ID index.
+ * The outcome is set once processing finished; claimedAt is when the delivery processing it
+ * started, so a record left without an outcome can be taken over by a later delivery.
+ * Records expire after 30 days, well past Paystack's retry window.
+ * This model is mapped to the "paystack_webhook_events" collection in MongoDB.
+ */
+@Document(collection = "paystack_webhook_events")
+public class PaystackWebhookEvent {
+
+    @Id
+    private String reference;
+    private String paymentId;
+    private String status;
+    private String outcome;
+    @Indexed(expireAfter = "30d")
+    private LocalDateTime receivedAt;
+    private LocalDateTime claimedAt;
+    private LocalDateTime processedAt;
+
+    public PaystackWebhookEvent() {}
+
+    public PaystackWebhookEvent(String reference, String paymentId, String status) {
+        this.reference = reference;
+        this.paymentId = paymentId;
+        this.status = status;
+        this.receivedAt = LocalDateTime.now();
+        this.claimedAt = receivedAt;
+    }
+
+    public String getReference() { return reference; }
+    public void setReference(String reference) { this.reference = reference; }
+    public String getPaymentId() { return paymentId; }
+    public void setPaymentId(String paymentId) { this.paymentId = paymentId; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public String getOutcome() { return outcome; }
+    public void setOutcome(String outcome) { this.outcome = outcome; }
+    public LocalDateTime getReceivedAt() { return receivedAt; }
+    public void setReceivedAt(LocalDateTime receivedAt) { this.receivedAt = receivedAt; }
+    public LocalDateTime getClaimedAt() { return claimedAt; }
+    public void setClaimedAt(LocalDateTime claimedAt) { this.claimedAt = claimedAt; }
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
+}
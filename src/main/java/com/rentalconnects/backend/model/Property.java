@@ -3,7 +3,15 @@ package com.rentalconnects.backend.model;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TextScore;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,14 +24,27 @@ public class Property {
     private String id;
     
     private String landlordId;
+    @TextIndexed(weight = 3)
     private String title;
+    @TextIndexed
     private String description;
     private Integer bedrooms;
     private Integer bathrooms;
+    @TextIndexed(weight = 2)
     private String address;
+    @TextIndexed(weight = 2)
     private String location;
+    // GeoJSON point (longitude, latitude) used for radius and map queries
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint geoPoint;
+    // Geohash of geoPoint; prefixes of it identify map clustering cells
+    @Indexed
+    private String geohash;
     private Double rent;
     private String currency;
+    // Rent converted to the base currency; price filters, sorting and facets use this
+    @Indexed
+    private Double rentBase;
     private Integer squareFeet;
     private Integer builtYear;
     private LocalDate availableFrom;
@@ -40,6 +61,10 @@ public class Property {
     private LocalDateTime createdAt;
     @LastModifiedDate
     private LocalDateTime updatedAt;
+    // Relevance score, only populated by full-text search queries
+    @TextScore
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Float score;
 
     public Property() {}
 
@@ -52,8 +77,11 @@ public class Property {
     public Integer getBathrooms() { return bathrooms; }
     public String getAddress() { return address; }
     public String getLocation() { return location; }
+    public GeoJsonPoint getGeoPoint() { return geoPoint; }
+    public String getGeohash() { return geohash; }
     public Double getRent() { return rent; }
     public String getCurrency() { return currency; }
+    public Double getRentBase() { return rentBase; }
     public Integer getSquareFeet() { return squareFeet; }
     public Integer getBuiltYear() { return builtYear; }
     public LocalDate getAvailableFrom() { return availableFrom; }
@@ -68,6 +96,7 @@ public class Property {
     public Double getRating() { return rating; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Float getScore() { return score; }
 
     // Setters
     public void setId(String id) { this.id = id; }
@@ -78,8 +107,11 @@ public class Property {
     public void setBathrooms(Integer bathrooms) { this.bathrooms = bathrooms; }
     public void setAddress(String address) { this.address = address; }
     public void setLocation(String location) { this.location = location; }
+    public void setGeoPoint(GeoJsonPoint geoPoint) { this.geoPoint = geoPoint; }
+    public void setGeohash(String geohash) { this.geohash = geohash; }
     public void setRent(Double rent) { this.rent = rent; }
     public void setCurrency(String currency) { this.currency = currency; }
+    public void setRentBase(Double rentBase) { this.rentBase = rentBase; }
     public void setSquareFeet(Integer squareFeet) { this.squareFeet = squareFeet; }
     public void setBuiltYear(Integer builtYear) { this.builtYear = builtYear; }
     public void setAvailableFrom(LocalDate availableFrom) { this.availableFrom = availableFrom; }
@@ -94,4 +126,5 @@ public class Property {
     public void setRating(Double rating) { this.rating = rating; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public void setScore(Float score) { this.score = score; }
 }
\ No newline at end of file
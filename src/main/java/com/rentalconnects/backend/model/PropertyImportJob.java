@@ -0,0 +1,84 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A landlord's bulk property import, with progress counters and the outcome of every row.
+ * This model is mapped to the "property_import_jobs" collection in MongoDB.
+ */
+@Document(collection = "property_import_jobs")
+public class PropertyImportJob {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    @Id
+    private String id;
+
+    @Indexed
+    private String landlordId;
+
+    private String fileName;
+    private Status status;
+    private int processedRows;
+    private int importedRows;
+    private int failedRows;
+    private List<RowResult> rows = new ArrayList<>();
+    // Set when the job as a whole failed, e.g. an unreadable file
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * Outcome of one data row. Rows are numbered from 1, not counting a CSV header.
+     */
+    public static class RowResult {
+
+        private int row;
+        private String propertyId;
+        private String error;
+
+        public RowResult() {}
+
+        public RowResult(int row, String propertyId, String error) {
+            this.row = row;
+            this.propertyId = propertyId;
+            this.error = error;
+        }
+
+        public int getRow() { return row; }
+        public void setRow(int row) { this.row = row; }
+        public String getPropertyId() { return propertyId; }
+        public void setPropertyId(String propertyId) { this.propertyId = propertyId; }
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getLandlordId() { return landlordId; }
+    public void setLandlordId(String landlordId) { this.landlordId = landlordId; }
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+    public int getProcessedRows() { return processedRows; }
+    public void setProcessedRows(int processedRows) { this.processedRows = processedRows; }
+    public int getImportedRows() { return importedRows; }
+    public void setImportedRows(int importedRows) { this.importedRows = importedRows; }
+    public int getFailedRows() { return failedRows; }
+    public void setFailedRows(int failedRows) { this.failedRows = failedRows; }
+    public List<RowResult> getRows() { return rows; }
+    public void setRows(List<RowResult> rows) { this.rows = rows; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
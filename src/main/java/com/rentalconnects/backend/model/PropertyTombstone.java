@@ -0,0 +1,34 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Marker left behind by a hard-deleted property, keyed by the property's ID, so incremental
+ * catalogue exports can tell partner feeds to drop it. Tombstones expire after 90 days; feeds
+ * that sync less often than that should take a full export instead.
+ * This model is mapped to the "property_tombstones" collection in MongoDB.
+ */
+@Document(collection = "property_tombstones")
+public class PropertyTombstone {
+
+    @Id
+    private String propertyId;
+    @Indexed(expireAfter = "90d")
+    private LocalDateTime deletedAt;
+
+    public PropertyTombstone() {}
+
+    public PropertyTombstone(String propertyId, LocalDateTime deletedAt) {
+        this.propertyId = propertyId;
+        this.deletedAt = deletedAt;
+    }
+
+    public String getPropertyId() { return propertyId; }
+    public void setPropertyId(String propertyId) { this.propertyId = propertyId; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+}
@@ -0,0 +1,32 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Views of a property within one hour, used for time-windowed popularity rankings.
+ * The ID is the property ID and the hour ("propertyId:yyyyMMddHH"); rollups expire after 35 days.
+ * This model is mapped to the "property_view_rollups" collection in MongoDB.
+ */
+@Document(collection = "property_view_rollups")
+public class PropertyViewRollup {
+
+    @Id
+    private String id;
+    private String propertyId;
+    @Indexed(expireAfter = "35d")
+    private LocalDateTime hour;
+    private long views;
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getPropertyId() { return propertyId; }
+    public void setPropertyId(String propertyId) { this.propertyId = propertyId; }
+    public LocalDateTime getHour() { return hour; }
+    public void setHour(LocalDateTime hour) { this.hour = hour; }
+    public long getViews() { return views; }
+    public void setViews(long views) { this.views = views; }
+}
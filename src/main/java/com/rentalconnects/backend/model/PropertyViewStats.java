@@ -0,0 +1,27 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Lifetime view count of a property, kept apart from the property document so that
+ * counter flushes never rewrite listings.
+ * This model is mapped to the "property_view_stats" collection in MongoDB.
+ */
+@Document(collection = "property_view_stats")
+public class PropertyViewStats {
+
+    @Id
+    private String propertyId;
+    private long totalViews;
+    private LocalDateTime lastViewedAt;
+
+    public String getPropertyId() { return propertyId; }
+    public void setPropertyId(String propertyId) { this.propertyId = propertyId; }
+    public long getTotalViews() { return totalViews; }
+    public void setTotalViews(long totalViews) { this.totalViews = totalViews; }
+    public LocalDateTime getLastViewedAt() { return lastViewedAt; }
+    public void setLastViewedAt(LocalDateTime lastViewedAt) { this.lastViewedAt = lastViewedAt; }
+}
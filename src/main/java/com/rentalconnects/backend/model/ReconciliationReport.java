@@ -0,0 +1,64 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Outcome of one payment reconciliation run: how many payments and transactions it compared,
+ * the discrepancies it found by kind, with a capped sample of payment IDs for each, and how
+ * many transactions it repaired. Orphaned transactions, whose payment no longer exists, are
+ * reported but left in place.
+ * This model is mapped to the "reconciliation_reports" collection in MongoDB.
+ */
+@Document(collection = "reconciliation_reports")
+public class ReconciliationReport {
+
+    @Id
+    private String id;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String resumedAfter;
+    private boolean complete;
+    private long paymentsScanned;
+    private long transactionsScanned;
+    private long missing;
+    private long mismatched;
+    private long orphaned;
+    private long repaired;
+    private List<String> missingSample = new ArrayList<>();
+    private List<String> mismatchedSample = new ArrayList<>();
+    private List<String> orphanedSample = new ArrayList<>();
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+    public String getResumedAfter() { return resumedAfter; }
+    public void setResumedAfter(String resumedAfter) { this.resumedAfter = resumedAfter; }
+    public boolean isComplete() { return complete; }
+    public void setComplete(boolean complete) { this.complete = complete; }
+    public long getPaymentsScanned() { return paymentsScanned; }
+    public void setPaymentsScanned(long paymentsScanned) { this.paymentsScanned = paymentsScanned; }
+    public long getTransactionsScanned() { return transactionsScanned; }
+    public void setTransactionsScanned(long transactionsScanned) { this.transactionsScanned = transactionsScanned; }
+    public long getMissing() { return missing; }
+    public void setMissing(long missing) { this.missing = missing; }
+    public long getMismatched() { return mismatched; }
+    public void setMismatched(long mismatched) { this.mismatched = mismatched; }
+    public long getOrphaned() { return orphaned; }
+    public void setOrphaned(long orphaned) { this.orphaned = orphaned; }
+    public long getRepaired() { return repaired; }
+    public void setRepaired(long repaired) { this.repaired = repaired; }
+    public List<String> getMissingSample() { return missingSample; }
+    public void setMissingSample(List<String> missingSample) { this.missingSample = missingSample; }
+    public List<String> getMismatchedSample() { return mismatchedSample; }
+    public void setMismatchedSample(List<String> mismatchedSample) { this.mismatchedSample = mismatchedSample; }
+    public List<String> getOrphanedSample() { return orphanedSample; }
+    public void setOrphanedSample(List<String> orphanedSample) { this.orphanedSample = orphanedSample; }
+}
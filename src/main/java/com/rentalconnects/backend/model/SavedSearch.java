@@ -0,0 +1,63 @@
+package com.rentalconnects.backend.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * A tenant's saved property search, stored as structured filter predicates so that new
+ * and updated listings can be matched against it without re-running the search.
+ * This model is mapped to the "saved_searches" collection in MongoDB.
+ */
+@Document(collection = "saved_searches")
+public class SavedSearch {
+
+    @Id
+    private String id;
+
+    @Indexed
+    private String tenantId;
+
+    @NotBlank(message = "Name cannot be blank")
+    private String name;
+
+    private String location;
+    private Double priceMin;
+    private Double priceMax;
+    private String propertyType;
+    private Integer bedrooms;
+    private Integer minBathrooms;
+    private Integer minSquareFeet;
+    private List<String> amenities;
+    private LocalDateTime createdAt;
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getTenantId() { return tenantId; }
+    public void setTenantId(String tenantId) { this.tenantId = tenantId; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    public Double getPriceMin() { return priceMin; }
+    public void setPriceMin(Double priceMin) { this.priceMin = priceMin; }
+    public Double getPriceMax() { return priceMax; }
+    public void setPriceMax(Double priceMax) { this.priceMax = priceMax; }
+    public String getPropertyType() { return propertyType; }
+    public void setPropertyType(String propertyType) { this.propertyType = propertyType; }
+    public Integer getBedrooms() { return bedrooms; }
+    public void setBedrooms(Integer bedrooms) { this.bedrooms = bedrooms; }
+    public Integer getMinBathrooms() { return minBathrooms; }
+    public void setMinBathrooms(Integer minBathrooms) { this.minBathrooms = minBathrooms; }
+    public Integer getMinSquareFeet() { return minSquareFeet; }
+    public void setMinSquareFeet(Integer minSquareFeet) { this.minSquareFeet = minSquareFeet; }
+    public List<String> getAmenities() { return amenities; }
+    public void setAmenities(List<String> amenities) { this.amenities = amenities; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
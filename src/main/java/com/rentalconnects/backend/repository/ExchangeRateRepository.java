@@ -0,0 +1,13 @@
+package com.rentalconnects.backend.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.rentalconnects.backend.model.ExchangeRate;
+
+/**
+ * Repository interface for managing {@link ExchangeRate} overrides in the MongoDB database.
+ */
+@Repository
+public interface ExchangeRateRepository extends MongoRepository<ExchangeRate, String> {
+}
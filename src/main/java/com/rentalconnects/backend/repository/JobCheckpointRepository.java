@@ -0,0 +1,13 @@
+package com.rentalconnects.backend.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.rentalconnects.backend.model.JobCheckpoint;
+
+/**
+ * Repository interface for managing {@link JobCheckpoint} entities in the MongoDB database.
+ */
+@Repository
+public interface JobCheckpointRepository extends MongoRepository<JobCheckpoint, String> {
+}
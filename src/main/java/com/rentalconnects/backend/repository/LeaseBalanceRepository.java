@@ -0,0 +1,18 @@
+package com.rentalconnects.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.rentalconnects.backend.model.LeaseBalance;
+
+/**
+ * Repository interface for managing {@link LeaseBalance} entities in the MongoDB database.
+ */
+@Repository
+public interface LeaseBalanceRepository extends MongoRepository<LeaseBalance, String> {
+
+    // Served by the (landlordId, balance) index
+    List<LeaseBalance> findByLandlordIdAndBalanceGreaterThanOrderByBalanceDesc(String landlordId, double balance);
+}
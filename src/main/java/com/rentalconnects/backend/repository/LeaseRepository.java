@@ -1,8 +1,10 @@
 package com.rentalconnects.backend.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.rentalconnects.backend.model.Lease;
@@ -30,6 +32,17 @@ public interface LeaseRepository extends MongoRepository<Lease, String> {
      */
     List<Lease> findByTenantId(String tenantId);
 
+    /**
+     * Retrieves a landlord's leases ending within a date range, both ends inclusive.
+     *
+     * @param landlordId The ID of the landlord to query leases for.
+     * @param from       The earliest end date.
+     * @param to         The latest end date.
+     * @return List of {@link Lease} entities ending in the range.
+     */
+    @Query("{ 'landlordId' : ?0, 'endDate' : { '$gte' : ?1, '$lte' : ?2 } }")
+    List<Lease> findByLandlordIdAndEndDateInRange(String landlordId, LocalDate from, LocalDate to);
+
     /**
      * Retrieves a list of leases for a specific property.
      *
@@ -46,4 +59,13 @@ public interface LeaseRepository extends MongoRepository<Lease, String> {
      * @return List of {@link Lease} entities with the specified status.
      */
     List<Lease> findByStatus(String status);
+
+    /**
+     * Counts a landlord's leases with a specific status.
+     *
+     * @param landlordId The ID of the landlord.
+     * @param status     The lease status.
+     * @return The number of matching leases.
+     */
+    long countByLandlordIdAndStatus(String landlordId, String status);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.rentalconnects.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.rentalconnects.backend.model.LedgerEntry;
+
+/**
+ * Repository interface for managing {@link LedgerEntry} entities in the MongoDB database.
+ */
+@Repository
+public interface LedgerEntryRepository extends MongoRepository<LedgerEntry, String> {
+
+    List<LedgerEntry> findByLeaseIdOrderByCreatedAtAsc(String leaseId);
+}
@@ -0,0 +1,13 @@
+package com.rentalconnects.backend.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.rentalconnects.backend.model.PaystackWebhookEvent;
+
+/**
+ * Repository interface for managing {@link PaystackWebhookEvent} entities in the MongoDB database.
+ */
+@Repository
+public interface PaystackWebhookEventRepository extends MongoRepository<PaystackWebhookEvent, String> {
+}
@@ -0,0 +1,13 @@
+package com.rentalconnects.backend.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.rentalconnects.backend.model.PropertyImportJob;
+
+/**
+ * Repository interface for managing {@link PropertyImportJob} entities in the MongoDB database.
+ */
+@Repository
+public interface PropertyImportJobRepository extends MongoRepository<PropertyImportJob, String> {
+}
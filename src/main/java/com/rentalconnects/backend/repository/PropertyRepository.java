@@ -1,19 +1,24 @@
 package com.rentalconnects.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import com.rentalconnects.backend.model.Property;
 
 /**
  * Repository interface for Property entity, providing CRUD operations and custom queries.
  */
-public interface PropertyRepository extends MongoRepository<Property, String> {
+public interface PropertyRepository extends MongoRepository<Property, String>, PropertyRepositoryCustom {
     List<Property> findByLandlordId(String landlordId); // Find properties by landlord ID
     List<Property> findByAddressContainingIgnoreCase(String address); // Find properties by address (case-insensitive)
     List<Property> findByPropertyType(String propertyType); // Find properties by property type
-    List<Property> findByRentLessThanEqual(double rent); 
+    List<Property> findByRentBaseLessThanEqual(double rentBase); // Find properties by maximum rent in the base currency
     List<Property> findByStatus(String status); // Find properties by status
     List<Property> findByStatusIn(List<String> statuses);
+    // Loads only the title and address of many properties in one round-trip, for assembling DTOs
+    @Query(value = "{ '_id' : { '$in' : ?0 } }", fields = "{ 'title' : 1, 'address' : 1 }")
+    List<Property> findTitlesByIdIn(Collection<String> ids);
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.rentalconnects.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.GeoResults;
+
+import com.rentalconnects.backend.dto.PropertyClusterDTO;
+import com.rentalconnects.backend.dto.PropertyFacetsDTO;
+import com.rentalconnects.backend.dto.PropertySearchRequest;
+import com.rentalconnects.backend.model.Property;
+
+/**
+ * Custom property queries that cannot be expressed as derived repository methods.
+ * Implemented by {@link PropertyRepositoryImpl} on top of MongoTemplate.
+ */
+public interface PropertyRepositoryCustom {
+
+    /**
+     * Runs a full-text search over title, description, address and location,
+     * restricted to available listings and the given structured filters.
+     *
+     * @param text     The free-text query.
+     * @param filter   Optional structured filters.
+     * @param pageable Page request; results are ordered by relevance.
+     * @return A page of matching properties with their text score populated.
+     */
+    Page<Property> searchByText(String text, PropertySearchRequest filter, Pageable pageable);
+
+    /**
+     * Finds available properties within a radius of a point, nearest first.
+     *
+     * @param latitude  Latitude of the search centre.
+     * @param longitude Longitude of the search centre.
+     * @param radiusKm  Maximum distance in kilometres.
+     * @param filter    Optional structured filters.
+     * @param limit     Maximum number of results.
+     * @return Geo results carrying the distance of each property in kilometres.
+     */
+    GeoResults<Property> findNear(double latitude, double longitude, double radiusKm, PropertySearchRequest filter, int limit);
+
+    /**
+     * Finds available properties inside a map bounding box.
+     *
+     * @param minLatitude  Southern edge of the box.
+     * @param minLongitude Western edge of the box.
+     * @param maxLatitude  Northern edge of the box.
+     * @param maxLongitude Eastern edge of the box.
+     * @param filter       Optional structured filters.
+     * @param limit        Maximum number of results.
+     * @return Properties whose point lies inside the box.
+     */
+    List<Property> findWithinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                 PropertySearchRequest filter, int limit);
+
+    /**
+     * Groups available properties inside a bounding box into geohash cells.
+     *
+     * @param minLatitude  Southern edge of the box.
+     * @param minLongitude Western edge of the box.
+     * @param maxLatitude  Northern edge of the box.
+     * @param maxLongitude Eastern edge of the box.
+     * @param precision    Geohash prefix length defining the cell size.
+     * @param filter       Optional structured filters.
+     * @return One cluster per non-empty cell with count, centroid and rent range.
+     */
+    List<PropertyClusterDTO> clusterWithinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                              int precision, PropertySearchRequest filter);
+
+    /**
+     * Loads only the ID and updatedAt of a property, so conditional requests can be
+     * answered without reading the full document.
+     *
+     * @param id The property ID.
+     * @return The projected property, or null if it does not exist.
+     */
+    Property findVersionStamp(String id);
+
+    /**
+     * Streams properties in ascending ID order from a MongoDB cursor. The caller must close the stream.
+     *
+     * @param since     If set, properties updated at or after this time, in any status;
+     *                  otherwise only available properties.
+     * @param afterId   If set, only properties with a greater ID, for resuming an export.
+     * @param batchSize The cursor batch size.
+     * @return The properties, read lazily.
+     */
+    Stream<Property> streamForExport(LocalDateTime since, String afterId, int batchSize);
+
+    /**
+     * Inserts properties in one unordered bulk write, so a rejected document does not stop the
+     * others. IDs and audit dates are assigned before the write.
+     *
+     * @param properties The properties to insert.
+     * @return Error messages of the properties that were not written, keyed by list index.
+     */
+    Map<Integer, String> insertUnordered(List<Property> properties);
+
+    /**
+     * Finds available properties matching the structured filters.
+     *
+     * @param filter Optional structured filters.
+     * @return Every matching property.
+     */
+    List<Property> findFiltered(PropertySearchRequest filter);
+
+    /**
+     * Counts available properties per type, bedroom count, amenity and rent bucket
+     * in a single $facet aggregation.
+     *
+     * @param filter         Optional structured filters.
+     * @param rentBoundaries Ascending rent bucket boundaries.
+     * @return Facet counts for the filtered result set.
+     */
+    PropertyFacetsDTO facetCounts(PropertySearchRequest filter, double[] rentBoundaries);
+
+    /**
+     * Recomputes rentBase as rent multiplied by the rate for every property in a currency,
+     * as a single server-side multi-document update. Only properties whose rentBase changes
+     * are written and get a new updatedAt.
+     *
+     * @param currency     ISO code of the currency to re-normalize.
+     * @param includeUnset Whether properties without a currency are also in this currency.
+     * @param rate         Units of base currency per unit of the currency.
+     * @param missingOnly  Whether to only fill in properties that have no rentBase yet.
+     * @return The number of properties modified.
+     */
+    long updateRentBase(String currency, boolean includeUnset, double rate, boolean missingOnly);
+}
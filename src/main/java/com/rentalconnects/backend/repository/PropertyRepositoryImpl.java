@@ -0,0 +1,308 @@
+package com.rentalconnects.backend.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.aggregation.SystemVariable;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.geo.GeoJsonPolygon;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.NearQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.rentalconnects.backend.dto.PropertyClusterDTO;
+import com.rentalconnects.backend.dto.PropertyFacetsDTO;
+import com.rentalconnects.backend.dto.PropertySearchRequest;
+import com.rentalconnects.backend.model.Property;
+
+/**
+ * MongoTemplate-backed implementation of {@link PropertyRepositoryCustom}.
+ */
+public class PropertyRepositoryImpl implements PropertyRepositoryCustom {
+
+    static final List<String> AVAILABLE_STATUSES = List.of("Active", "Vacant");
+    private static final String OTHER_BUCKET = "other";
+
+    private final MongoTemplate mongoTemplate;
+
+    public PropertyRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Page<Property> searchByText(String text, PropertySearchRequest filter, Pageable pageable) {
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text)).sortByScore();
+        filterCriteria(filter).forEach(query::addCriteria);
+        query.with(pageable);
+        List<Property> content = mongoTemplate.find(query, Property.class);
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Property.class));
+    }
+
+    @Override
+    public GeoResults<Property> findNear(double latitude, double longitude, double radiusKm, PropertySearchRequest filter, int limit) {
+        Query query = new Query();
+        filterCriteria(filter).forEach(query::addCriteria);
+        NearQuery nearQuery = NearQuery.near(new GeoJsonPoint(longitude, latitude), Metrics.KILOMETERS)
+                .maxDistance(radiusKm)
+                .spherical(true)
+                .query(query)
+                .limit(limit);
+        return mongoTemplate.geoNear(nearQuery, Property.class);
+    }
+
+    @Override
+    public List<Property> findWithinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                        PropertySearchRequest filter, int limit) {
+        Query query = new Query(boxCriteria(minLatitude, minLongitude, maxLatitude, maxLongitude));
+        filterCriteria(filter).forEach(query::addCriteria);
+        query.limit(limit);
+        return mongoTemplate.find(query, Property.class);
+    }
+
+    @Override
+    public List<PropertyClusterDTO> clusterWithinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                                     int precision, PropertySearchRequest filter) {
+        List<Criteria> criteria = filterCriteria(filter);
+        criteria.add(boxCriteria(minLatitude, minLongitude, maxLatitude, maxLongitude));
+        criteria.add(Criteria.where("geohash").exists(true));
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(new Criteria().andOperator(criteria)),
+                Aggregation.project("rentBase")
+                        .and(StringOperators.valueOf("geohash").substring(0, precision)).as("cell")
+                        .and(ArrayOperators.ArrayElemAt.arrayOf("geoPoint.coordinates").elementAt(0)).as("lng")
+                        .and(ArrayOperators.ArrayElemAt.arrayOf("geoPoint.coordinates").elementAt(1)).as("lat"),
+                Aggregation.group("cell")
+                        .count().as("count")
+                        .avg("lat").as("latitude")
+                        .avg("lng").as("longitude")
+                        .min("rentBase").as("minRent")
+                        .max("rentBase").as("maxRent"));
+        // Untyped aggregation: geoPoint.coordinates is a raw GeoJSON path, not a mapped property
+        return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Property.class), Document.class)
+                .getMappedResults().stream()
+                .map(cell -> new PropertyClusterDTO(
+                        cell.getString("_id"),
+                        cell.get("count", Number.class).longValue(),
+                        cell.get("latitude", Number.class).doubleValue(),
+                        cell.get("longitude", Number.class).doubleValue(),
+                        toDouble(cell.get("minRent", Number.class)),
+                        toDouble(cell.get("maxRent", Number.class))))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Property findVersionStamp(String id) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        query.fields().include("updatedAt");
+        return mongoTemplate.findOne(query, Property.class);
+    }
+
+    @Override
+    public Stream<Property> streamForExport(LocalDateTime since, String afterId, int batchSize) {
+        Criteria criteria = since != null
+                ? Criteria.where("updatedAt").gte(since)
+                : Criteria.where("status").in(AVAILABLE_STATUSES);
+        if (afterId != null) {
+            criteria = criteria.and("_id").gt(new ObjectId(afterId));
+        }
+        // Ordered by _id so the walk uses the primary key index and an offset is just the last ID seen.
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, "_id")).cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, Property.class);
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Property> properties) {
+        if (properties.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Property property : properties) {
+            // Pre-assigned IDs make auditing treat the documents as existing, so stamp them here.
+            if (property.getId() == null) {
+                property.setId(new ObjectId().toHexString());
+            }
+            property.setCreatedAt(now);
+            property.setUpdatedAt(now);
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Property.class);
+        bulkOps.insert(properties);
+        try {
+            bulkOps.execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failures = new HashMap<>();
+            e.getErrors().forEach(error -> failures.put(error.getIndex(), error.getMessage()));
+            return failures;
+        }
+    }
+
+    @Override
+    public List<Property> findFiltered(PropertySearchRequest filter) {
+        Query query = new Query(new Criteria().andOperator(filterCriteria(filter)));
+        if (filter != null && filter.getSort() != null) {
+            query.with(Sort.by(filter.getSort() == PropertySearchRequest.SortOrder.PRICE_DESC
+                    ? Sort.Direction.DESC : Sort.Direction.ASC, "rentBase"));
+        }
+        return mongoTemplate.find(query, Property.class);
+    }
+
+    @Override
+    public long updateRentBase(String currency, boolean includeUnset, double rate, boolean missingOnly) {
+        Criteria criteria = includeUnset
+                ? Criteria.where("currency").in(Arrays.asList(currency, null))
+                : Criteria.where("currency").is(currency);
+        criteria = criteria.and("rent").ne(null);
+        if (missingOnly) {
+            criteria = criteria.and("rentBase").exists(false);
+        }
+        // Only properties whose normalized rent actually moves are written, so unchanged
+        // listings keep their updatedAt (and with it their ETag and place in incremental exports).
+        criteria = new Criteria().andOperator(criteria, Criteria.expr(
+                ComparisonOperators.valueOf("rentBase").notEqualTo(ArithmeticOperators.valueOf("rent").multiplyBy(rate))));
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("rentBase").toValue(ArithmeticOperators.valueOf("rent").multiplyBy(rate))
+                .set("updatedAt").toValue(SystemVariable.NOW);
+        return mongoTemplate.updateMulti(new Query(criteria), update, Property.class).getModifiedCount();
+    }
+
+    @Override
+    public PropertyFacetsDTO facetCounts(PropertySearchRequest filter, double[] rentBoundaries) {
+        Object[] boundaries = Arrays.stream(rentBoundaries).boxed().toArray();
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(new Criteria().andOperator(filterCriteria(filter))),
+                Aggregation.facet(Aggregation.count().as("count")).as("total")
+                        .and(Aggregation.sortByCount("propertyType")).as("propertyTypes")
+                        .and(Aggregation.sortByCount("bedrooms")).as("bedrooms")
+                        .and(Aggregation.unwind("amenities"), Aggregation.sortByCount("amenities")).as("amenities")
+                        .and(Aggregation.bucket("rentBase").withBoundaries(boundaries).withDefaultBucket(OTHER_BUCKET)
+                                .andOutputCount().as("count")).as("rentBuckets"));
+        Document result = mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Property.class), Document.class)
+                .getUniqueMappedResult();
+
+        PropertyFacetsDTO facets = new PropertyFacetsDTO();
+        if (result == null) {
+            return facets;
+        }
+        List<Document> total = result.getList("total", Document.class);
+        facets.setTotal(total.isEmpty() ? 0 : total.get(0).get("count", Number.class).longValue());
+        putCounts(result.getList("propertyTypes", Document.class), facets.getPropertyTypes());
+        putCounts(result.getList("bedrooms", Document.class), facets.getBedrooms());
+        putCounts(result.getList("amenities", Document.class), facets.getAmenities());
+        for (Document bucket : result.getList("rentBuckets", Document.class)) {
+            long count = bucket.get("count", Number.class).longValue();
+            Object id = bucket.get("_id");
+            if (OTHER_BUCKET.equals(id)) {
+                facets.getRentBuckets().add(new PropertyFacetsDTO.RentBucket(null, null, count));
+                continue;
+            }
+            double min = ((Number) id).doubleValue();
+            int index = Arrays.binarySearch(rentBoundaries, min);
+            Double max = index >= 0 && index + 1 < rentBoundaries.length ? rentBoundaries[index + 1] : null;
+            facets.getRentBuckets().add(new PropertyFacetsDTO.RentBucket(min, max, count));
+        }
+        return facets;
+    }
+
+    private static void putCounts(List<Document> groups, Map<String, Long> counts) {
+        for (Document group : groups) {
+            Object value = group.get("_id");
+            counts.put(value != null ? value.toString() : "Unspecified", group.get("count", Number.class).longValue());
+        }
+    }
+
+    private static Double toDouble(Number value) {
+        return value != null ? value.doubleValue() : null;
+    }
+
+    /**
+     * Builds a $geoWithin criteria for a bounding box. GeoJSON polygons are used
+     * instead of the legacy $box operator, which does not apply to 2dsphere points.
+     */
+    Criteria boxCriteria(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        GeoJsonPolygon box = new GeoJsonPolygon(
+                new Point(minLongitude, minLatitude),
+                new Point(maxLongitude, minLatitude),
+                new Point(maxLongitude, maxLatitude),
+                new Point(minLongitude, maxLatitude),
+                new Point(minLongitude, minLatitude));
+        return Criteria.where("geoPoint").within(box);
+    }
+
+    /**
+     * Translates the structured search filters into criteria on available listings.
+     * Each field gets a single criteria entry so the result can be added to a Query
+     * or combined with andOperator in an aggregation $match.
+     */
+    List<Criteria> filterCriteria(PropertySearchRequest filter) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("status").in(AVAILABLE_STATUSES));
+        if (filter == null) {
+            return criteria;
+        }
+        if (filter.getLocation() != null && !filter.getLocation().trim().isEmpty()) {
+            criteria.add(Criteria.where("location").regex(Pattern.quote(filter.getLocation().trim()), "i"));
+        }
+        if (filter.getPriceMin() != null || filter.getPriceMax() != null) {
+            Criteria rent = Criteria.where("rentBase");
+            if (filter.getPriceMin() != null) {
+                rent = rent.gte(filter.getPriceMin());
+            }
+            if (filter.getPriceMax() != null) {
+                rent = rent.lte(filter.getPriceMax());
+            }
+            criteria.add(rent);
+        }
+        if (filter.getPropertyType() != null && !filter.getPropertyType().trim().isEmpty()) {
+            criteria.add(Criteria.where("propertyType").regex("^" + Pattern.quote(filter.getPropertyType().trim()) + "$", "i"));
+        }
+        if (filter.getBedrooms() != null) {
+            criteria.add(Criteria.where("bedrooms").is(filter.getBedrooms()));
+        }
+        if (filter.getMinBathrooms() != null) {
+            criteria.add(Criteria.where("bathrooms").gte(filter.getMinBathrooms()));
+        }
+        if (filter.getMinSquareFeet() != null) {
+            criteria.add(Criteria.where("squareFeet").gte(filter.getMinSquareFeet()));
+        }
+        if (filter.getAmenities() != null) {
+            Object[] amenities = filter.getAmenities().stream()
+                    .filter(amenity -> amenity != null && !amenity.trim().isEmpty())
+                    .map(amenity -> Pattern.compile("^" + Pattern.quote(amenity.trim()) + "$", Pattern.CASE_INSENSITIVE))
+                    .toArray();
+            if (amenities.length > 0) {
+                // A single $all keeps one criteria per key, as Query.addCriteria requires.
+                criteria.add(Criteria.where("amenities").all(amenities));
+            }
+        }
+        return criteria;
+    }
+}
@@ -0,0 +1,31 @@
+package com.rentalconnects.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.rentalconnects.backend.model.SavedSearch;
+
+/**
+ * Repository interface for managing {@link SavedSearch} entities in the MongoDB database.
+ */
+@Repository
+public interface SavedSearchRepository extends MongoRepository<SavedSearch, String> {
+
+    /**
+     * Retrieves the saved searches owned by a tenant.
+     *
+     * @param tenantId The ID of the tenant
+     * @return List of {@link SavedSearch} entities for the tenant
+     */
+    List<SavedSearch> findByTenantId(String tenantId);
+
+    /**
+     * Counts the saved searches owned by a tenant.
+     *
+     * @param tenantId The ID of the tenant
+     * @return The number of saved searches
+     */
+    long countByTenantId(String tenantId);
+}
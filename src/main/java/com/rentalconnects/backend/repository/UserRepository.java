@@ -4,6 +4,8 @@ import com.rentalconnects.backend.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends MongoRepository<User, String> {
@@ -13,4 +15,7 @@ public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByResetPasswordToken(String resetPasswordToken);
     boolean existsByEmail(String email);
     long countByRole(String role);
+    // Loads only the name fields of many users in one round-trip, for assembling DTOs
+    @Query(value = "{ '_id' : { '$in' : ?0 } }", fields = "{ 'firstName' : 1, 'lastName' : 1, 'fullName' : 1 }")
+    List<User> findNamesByIdIn(Collection<String> ids);
 }
\ No newline at end of file
@@ -0,0 +1,344 @@
+package com.rentalconnects.backend.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.dto.LocationSuggestionDTO;
+import com.rentalconnects.backend.event.PropertiesImportedEvent;
+import com.rentalconnects.backend.event.PropertyChangedEvent;
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.repository.PropertyRepository;
+
+/**
+ * Location typeahead over available listings, held in a compressed (radix) prefix trie.
+ *
+ * Terms are each listing's location and the comma-separated parts of its address, matched
+ * case-insensitively. Every node tracks the highest listing count in its subtree, so the top
+ * suggestions for a prefix are found best-first without visiting the whole subtree. Like
+ * {@link PropertySearchIndex}, the trie loads when the application is ready, follows
+ * {@link PropertyChangedEvent}s and is rebuilt periodically.
+ */
+@Component
+public class LocationSuggestionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationSuggestionIndex.class);
+
+    private final PropertyRepository propertyRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Trie trie;
+    private Map<String, Property> changedDuringRebuild;
+
+    public LocationSuggestionIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${property.search-index.rebuild-interval-ms:300000}",
+            initialDelayString = "${property.search-index.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            List<Property> properties = propertyRepository.findByStatusIn(PropertySearchIndex.INDEXED_STATUSES);
+            Trie rebuilt = new Trie();
+            properties.forEach(rebuilt::put);
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild.forEach((id, property) -> {
+                    if (property != null && isIndexable(property)) {
+                        rebuilt.put(property);
+                    } else {
+                        rebuilt.remove(id);
+                    }
+                });
+                trie = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("[LocationSuggestionIndex] Indexed {} location terms", rebuilt.termCount);
+        } catch (RuntimeException e) {
+            logger.error("[LocationSuggestionIndex] Failed to rebuild trie: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event.getPropertyId(), event.getProperty());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onPropertiesImported(PropertiesImportedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getProperties().forEach(property -> apply(property.getId(), property));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Applies one change; the caller holds the write lock. */
+    private void apply(String id, Property property) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(id, property);
+        }
+        if (trie == null) {
+            return;
+        }
+        if (property != null && isIndexable(property)) {
+            trie.put(property);
+        } else {
+            trie.remove(id);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} terms starting with the prefix, most listed first.
+     * Returns an empty list until the trie has loaded.
+     */
+    public List<LocationSuggestionDTO> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            if (trie == null) {
+                return List.of();
+            }
+            return trie.topK(normalize(prefix), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean isIndexable(Property property) {
+        return property.getId() != null && PropertySearchIndex.INDEXED_STATUSES.contains(property.getStatus());
+    }
+
+    private static String normalize(String value) {
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> termsOf(Property property) {
+        Set<String> terms = new LinkedHashSet<>();
+        addTerm(terms, property.getLocation());
+        if (property.getAddress() != null) {
+            for (String part : property.getAddress().split(",")) {
+                addTerm(terms, part);
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(Set<String> terms, String value) {
+        if (value != null && !value.trim().isEmpty()) {
+            terms.add(value.trim().replaceAll("\\s+", " "));
+        }
+    }
+
+    /**
+     * Radix trie keyed by normalized term. Not thread-safe; guarded by the enclosing index's lock.
+     */
+    private static final class Trie {
+
+        private final Node root = new Node("", null);
+        private final Map<String, Set<String>> termsByProperty = new HashMap<>();
+        private int termCount;
+
+        void put(Property property) {
+            remove(property.getId());
+            Set<String> terms = termsOf(property);
+            for (String term : terms) {
+                adjust(term, 1);
+            }
+            termsByProperty.put(property.getId(), terms);
+        }
+
+        void remove(String propertyId) {
+            Set<String> terms = termsByProperty.remove(propertyId);
+            if (terms != null) {
+                for (String term : terms) {
+                    adjust(term, -1);
+                }
+            }
+        }
+
+        List<LocationSuggestionDTO> topK(String prefix, int limit) {
+            Node start = root;
+            int matched = 0;
+            while (matched < prefix.length()) {
+                Node child = start.children.get(prefix.charAt(matched));
+                if (child == null) {
+                    return List.of();
+                }
+                int common = commonPrefix(child.label, prefix, matched);
+                if (common < child.label.length() && matched + common < prefix.length()) {
+                    return List.of();
+                }
+                matched += common;
+                start = child;
+            }
+
+            List<LocationSuggestionDTO> results = new ArrayList<>();
+            PriorityQueue<Node> frontier = new PriorityQueue<>(Comparator.comparingInt((Node n) -> n.best).reversed());
+            PriorityQueue<Node> terminals = new PriorityQueue<>(Comparator.comparingInt((Node n) -> n.count).reversed());
+            if (start.best > 0) {
+                frontier.add(start);
+            }
+            // A terminal is emitted once no unexplored subtree can beat it.
+            while (results.size() < limit && (!frontier.isEmpty() || !terminals.isEmpty())) {
+                if (!terminals.isEmpty() && (frontier.isEmpty() || terminals.peek().count >= frontier.peek().best)) {
+                    Node node = terminals.poll();
+                    results.add(new LocationSuggestionDTO(node.display, node.count));
+                    continue;
+                }
+                Node node = frontier.poll();
+                if (node.count > 0) {
+                    terminals.add(node);
+                }
+                for (Node child : node.children.values()) {
+                    if (child.best > 0) {
+                        frontier.add(child);
+                    }
+                }
+            }
+            return results;
+        }
+
+        private void adjust(String display, int delta) {
+            String key = normalize(display);
+            Node node = root;
+            int matched = 0;
+            while (matched < key.length()) {
+                char next = key.charAt(matched);
+                Node child = node.children.get(next);
+                if (child == null) {
+                    if (delta < 0) {
+                        return;
+                    }
+                    child = new Node(key.substring(matched), node);
+                    node.children.put(next, child);
+                    node = child;
+                    break;
+                }
+                int common = commonPrefix(child.label, key, matched);
+                if (common < child.label.length()) {
+                    if (delta < 0) {
+                        return;
+                    }
+                    child = split(child, common);
+                }
+                matched += common;
+                node = child;
+            }
+
+            boolean wasTerm = node.count > 0;
+            node.count = Math.max(0, node.count + delta);
+            if (delta > 0) {
+                node.display = display;
+            }
+            if (!wasTerm && node.count > 0) {
+                termCount++;
+            } else if (wasTerm && node.count == 0) {
+                termCount--;
+                node.display = null;
+            }
+            for (Node n = node; n != null; n = n.parent) {
+                n.recomputeBest();
+            }
+            prune(node);
+        }
+
+        /** Splits {@code child} so that its first {@code at} label characters form a new intermediate node. */
+        private Node split(Node child, int at) {
+            Node parent = child.parent;
+            Node middle = new Node(child.label.substring(0, at), parent);
+            parent.children.put(middle.label.charAt(0), middle);
+            child.label = child.label.substring(at);
+            child.parent = middle;
+            middle.children.put(child.label.charAt(0), child);
+            middle.best = child.best;
+            return middle;
+        }
+
+        /** Drops emptied leaves and merges pass-through nodes back into their single child. */
+        private void prune(Node node) {
+            while (node != root && node.count == 0 && node.children.isEmpty()) {
+                Node parent = node.parent;
+                parent.children.remove(node.label.charAt(0));
+                node = parent;
+            }
+            if (node != root && node.count == 0 && node.children.size() == 1) {
+                Node only = node.children.values().iterator().next();
+                only.label = node.label + only.label;
+                only.parent = node.parent;
+                node.parent.children.put(only.label.charAt(0), only);
+            }
+        }
+
+        private static int commonPrefix(String label, String key, int offset) {
+            int max = Math.min(label.length(), key.length() - offset);
+            int i = 0;
+            while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    private static final class Node {
+
+        private String label;
+        private Node parent;
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String display;
+        private int count;
+        private int best;
+
+        Node(String label, Node parent) {
+            this.label = label;
+            this.parent = parent;
+        }
+
+        void recomputeBest() {
+            int max = count;
+            for (Node child : children.values()) {
+                max = Math.max(max, child.best);
+            }
+            best = max;
+        }
+    }
+}
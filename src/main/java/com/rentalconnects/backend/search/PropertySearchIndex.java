@@ -0,0 +1,355 @@
+package com.rentalconnects.backend.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.dto.PropertySearchRequest;
+import com.rentalconnects.backend.event.ExchangeRatesChangedEvent;
+import com.rentalconnects.backend.event.PropertiesImportedEvent;
+import com.rentalconnects.backend.event.PropertyChangedEvent;
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.repository.PropertyRepository;
+
+/**
+ * In-memory columnar index over available (Active/Vacant) properties for the public browse path.
+ *
+ * Numeric attributes live in primitive arrays indexed by slot, with rent held in the base
+ * currency (rentBase), and every type, amenity and location value owns a BitSet of the slots
+ * carrying it, so a filter combination resolves to bitset intersections followed by a single
+ * scan over the surviving slots. The index is loaded
+ * once the application is ready, kept current from {@link PropertyChangedEvent}s and rebuilt
+ * periodically to pick up writes made by other instances or directly against MongoDB.
+ */
+@Component
+public class PropertySearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertySearchIndex.class);
+
+    static final List<String> INDEXED_STATUSES = List.of("Active", "Vacant");
+
+    private final PropertyRepository propertyRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Columns columns;
+    private Map<String, Property> changedDuringRebuild;
+
+    public PropertySearchIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    /**
+     * Whether the initial load has completed; callers fall back to MongoDB until then.
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return columns != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns != null ? columns.live.cardinality() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${property.search-index.rebuild-interval-ms:300000}",
+            initialDelayString = "${property.search-index.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            List<Property> properties = propertyRepository.findByStatusIn(INDEXED_STATUSES);
+            Columns rebuilt = new Columns(properties.size());
+            properties.forEach(rebuilt::put);
+            lock.writeLock().lock();
+            try {
+                // Writes observed while the snapshot was being read are newer than it.
+                changedDuringRebuild.forEach((id, property) -> {
+                    if (property != null && isIndexable(property)) {
+                        rebuilt.put(property);
+                    } else {
+                        rebuilt.remove(id);
+                    }
+                });
+                columns = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("[PropertySearchIndex] Indexed {} available properties", properties.size());
+        } catch (RuntimeException e) {
+            logger.error("[PropertySearchIndex] Failed to rebuild index: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Normalized rents were recomputed in bulk, so reload rather than patch individual slots.
+     */
+    @EventListener(ExchangeRatesChangedEvent.class)
+    public void onExchangeRatesChanged() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event.getPropertyId(), event.getProperty());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onPropertiesImported(PropertiesImportedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getProperties().forEach(property -> apply(property.getId(), property));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Applies one change; the caller holds the write lock. */
+    private void apply(String id, Property property) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(id, property);
+        }
+        if (columns == null) {
+            return;
+        }
+        if (property != null && isIndexable(property)) {
+            columns.put(property);
+        } else {
+            columns.remove(id);
+        }
+    }
+
+    /**
+     * Returns the indexed properties matching every set field of the filter.
+     * Location matches case-insensitively as a substring; type and amenities match exactly, ignoring case.
+     */
+    public List<Property> search(PropertySearchRequest filter) {
+        lock.readLock().lock();
+        try {
+            if (columns == null) {
+                throw new IllegalStateException("Property search index is not loaded");
+            }
+            return columns.search(filter != null ? filter : new PropertySearchRequest());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean isIndexable(Property property) {
+        return property.getId() != null && INDEXED_STATUSES.contains(property.getStatus());
+    }
+
+    private static String key(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * Slot-addressed column storage. Not thread-safe; guarded by the enclosing index's lock.
+     */
+    private static final class Columns {
+
+        private static final int ABSENT = Integer.MIN_VALUE;
+
+        private final Map<String, Integer> slotsById = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private final Map<String, BitSet> byType = new HashMap<>();
+        private final Map<String, BitSet> byAmenity = new HashMap<>();
+        private final Map<String, BitSet> byLocation = new LinkedHashMap<>();
+
+        private Property[] properties;
+        private double[] rents;
+        private int[] bedrooms;
+        private int[] bathrooms;
+        private int[] squareFeet;
+        private int slotCount;
+
+        Columns(int expectedSize) {
+            int capacity = Math.max(16, expectedSize + expectedSize / 4);
+            properties = new Property[capacity];
+            rents = new double[capacity];
+            bedrooms = new int[capacity];
+            bathrooms = new int[capacity];
+            squareFeet = new int[capacity];
+        }
+
+        void put(Property property) {
+            remove(property.getId());
+            int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+            ensureCapacity(slot + 1);
+            properties[slot] = property;
+            rents[slot] = property.getRentBase() != null ? property.getRentBase() : Double.NaN;
+            bedrooms[slot] = property.getBedrooms() != null ? property.getBedrooms() : ABSENT;
+            bathrooms[slot] = property.getBathrooms() != null ? property.getBathrooms() : ABSENT;
+            squareFeet[slot] = property.getSquareFeet() != null ? property.getSquareFeet() : ABSENT;
+            mark(byType, key(property.getPropertyType()), slot, true);
+            mark(byLocation, key(property.getLocation()), slot, true);
+            if (property.getAmenities() != null) {
+                property.getAmenities().forEach(amenity -> mark(byAmenity, key(amenity), slot, true));
+            }
+            live.set(slot);
+            slotsById.put(property.getId(), slot);
+        }
+
+        void remove(String id) {
+            Integer slot = slotsById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            Property property = properties[slot];
+            mark(byType, key(property.getPropertyType()), slot, false);
+            mark(byLocation, key(property.getLocation()), slot, false);
+            if (property.getAmenities() != null) {
+                property.getAmenities().forEach(amenity -> mark(byAmenity, key(amenity), slot, false));
+            }
+            live.clear(slot);
+            properties[slot] = null;
+            freeSlots.push(slot);
+        }
+
+        List<Property> search(PropertySearchRequest filter) {
+            BitSet candidates = (BitSet) live.clone();
+            if (!isBlank(filter.getPropertyType()) && !intersect(candidates, byType.get(key(filter.getPropertyType())))) {
+                return List.of();
+            }
+            if (filter.getAmenities() != null) {
+                for (String amenity : filter.getAmenities()) {
+                    if (!isBlank(amenity) && !intersect(candidates, byAmenity.get(key(amenity)))) {
+                        return List.of();
+                    }
+                }
+            }
+            if (!isBlank(filter.getLocation())) {
+                String location = key(filter.getLocation());
+                BitSet matching = new BitSet();
+                byLocation.forEach((value, slots) -> {
+                    if (value.contains(location)) {
+                        matching.or(slots);
+                    }
+                });
+                if (!intersect(candidates, matching)) {
+                    return List.of();
+                }
+            }
+
+            boolean rentFiltered = filter.getPriceMin() != null || filter.getPriceMax() != null;
+            double priceMin = filter.getPriceMin() != null ? filter.getPriceMin() : Double.NEGATIVE_INFINITY;
+            double priceMax = filter.getPriceMax() != null ? filter.getPriceMax() : Double.POSITIVE_INFINITY;
+            int bedroomsEq = filter.getBedrooms() != null ? filter.getBedrooms() : ABSENT;
+            int minBathrooms = filter.getMinBathrooms() != null ? filter.getMinBathrooms() : ABSENT;
+            int minSquareFeet = filter.getMinSquareFeet() != null ? filter.getMinSquareFeet() : ABSENT;
+
+            List<Integer> matched = new ArrayList<>(candidates.cardinality());
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                // NaN rents and ABSENT counts fail every comparison, so unset values never match a set filter.
+                if (rentFiltered && !(rents[slot] >= priceMin && rents[slot] <= priceMax)) {
+                    continue;
+                }
+                if (bedroomsEq != ABSENT && bedrooms[slot] != bedroomsEq) {
+                    continue;
+                }
+                if (minBathrooms != ABSENT && (bathrooms[slot] == ABSENT || bathrooms[slot] < minBathrooms)) {
+                    continue;
+                }
+                if (minSquareFeet != ABSENT && (squareFeet[slot] == ABSENT || squareFeet[slot] < minSquareFeet)) {
+                    continue;
+                }
+                matched.add(slot);
+            }
+            if (filter.getSort() != null) {
+                // Unpriced listings sort last in either direction.
+                Comparator<Integer> byRent = Comparator.comparingDouble(slot -> rents[slot]);
+                matched.sort(Comparator.comparing((Integer slot) -> Double.isNaN(rents[slot]))
+                        .thenComparing(filter.getSort() == PropertySearchRequest.SortOrder.PRICE_DESC ? byRent.reversed() : byRent));
+            }
+            List<Property> results = new ArrayList<>(matched.size());
+            matched.forEach(slot -> results.add(properties[slot]));
+            return results;
+        }
+
+        private static boolean intersect(BitSet candidates, BitSet slots) {
+            if (slots == null) {
+                return false;
+            }
+            candidates.and(slots);
+            return !candidates.isEmpty();
+        }
+
+        private static void mark(Map<String, BitSet> postings, String value, int slot, boolean present) {
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            if (present) {
+                postings.computeIfAbsent(value, v -> new BitSet()).set(slot);
+                return;
+            }
+            BitSet slots = postings.get(value);
+            if (slots != null) {
+                slots.clear(slot);
+                if (slots.isEmpty()) {
+                    postings.remove(value);
+                }
+            }
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= properties.length) {
+                return;
+            }
+            int capacity = Math.max(required, properties.length * 2);
+            properties = Arrays.copyOf(properties, capacity);
+            rents = Arrays.copyOf(rents, capacity);
+            bedrooms = Arrays.copyOf(bedrooms, capacity);
+            bathrooms = Arrays.copyOf(bathrooms, capacity);
+            squareFeet = Arrays.copyOf(squareFeet, capacity);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.rentalconnects.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.event.ExchangeRatesChangedEvent;
+import com.rentalconnects.backend.model.Property;
+
+/**
+ * Per-segment rent distributions used to suggest a rent range for a new listing.
+ *
+ * Every listing with a normalized rent is counted in a chain of progressively broader segments:
+ * type, bedrooms and bathrooms within a ~5 km geohash cell, then type and bedrooms in that cell,
+ * in the ~20 km cell around it, anywhere, and finally type alone. Each segment keeps its rents
+ * as a sorted array, so quantiles are exact lookups. The statistics are rebuilt periodically
+ * from a projected scan and estimates never query the listings.
+ */
+@Component
+public class RentStatisticsIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RentStatisticsIndex.class);
+
+    private static final int NEAR_PRECISION = 5;
+    private static final int AREA_PRECISION = 4;
+
+    private enum Level {
+        NEAR_EXACT("same type, bedrooms and bathrooms within about 5 km"),
+        NEAR("same type and bedrooms within about 5 km"),
+        AREA("same type and bedrooms within about 20 km"),
+        BEDROOMS("same type and bedrooms"),
+        TYPE("same type");
+
+        private final String description;
+
+        Level(String description) {
+            this.description = description;
+        }
+    }
+
+    /** Rent quantiles, in the base currency, of the narrowest segment with enough samples. */
+    public record Estimate(double low, double median, double high, int sampleSize, String basis) {}
+
+    private final MongoTemplate mongoTemplate;
+    private final int minSamples;
+
+    private volatile Map<String, double[]> segments = Map.of();
+
+    public RentStatisticsIndex(MongoTemplate mongoTemplate,
+                               @Value("${property.rent-estimate.min-samples:5}") int minSamples) {
+        this.mongoTemplate = mongoTemplate;
+        this.minSamples = minSamples;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, ExchangeRatesChangedEvent.class})
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${property.rent-estimate.refresh-interval-ms:900000}",
+            initialDelayString = "${property.rent-estimate.refresh-interval-ms:900000}")
+    public synchronized void refresh() {
+        Query query = new Query(Criteria.where("rentBase").ne(null).and("propertyType").ne(null));
+        query.fields().include("propertyType", "bedrooms", "bathrooms", "geohash", "rentBase");
+        Map<String, List<Double>> collected = new HashMap<>();
+        int listings = 0;
+        try (Stream<Property> stream = mongoTemplate.stream(query, Property.class)) {
+            for (Property property : (Iterable<Property>) stream::iterator) {
+                for (Level level : Level.values()) {
+                    String key = key(level, property.getPropertyType(), property.getBedrooms(),
+                            property.getBathrooms(), property.getGeohash());
+                    if (key != null) {
+                        collected.computeIfAbsent(key, k -> new ArrayList<>()).add(property.getRentBase());
+                    }
+                }
+                listings++;
+            }
+        } catch (RuntimeException e) {
+            logger.error("[RentStatisticsIndex] Failed to refresh rent statistics: {}", e.getMessage());
+            return;
+        }
+        Map<String, double[]> refreshed = new HashMap<>(collected.size() * 2);
+        collected.forEach((key, rents) -> {
+            double[] sorted = rents.stream().mapToDouble(Double::doubleValue).toArray();
+            Arrays.sort(sorted);
+            refreshed.put(key, sorted);
+        });
+        segments = refreshed;
+        logger.info("[RentStatisticsIndex] Built {} rent segments from {} listings", refreshed.size(), listings);
+    }
+
+    /**
+     * Returns rent quantiles from the narrowest segment holding at least the configured number
+     * of comparable listings, or null when none does.
+     *
+     * @param geohash Geohash of the listing's location, or null if it is unknown.
+     */
+    public Estimate estimate(String propertyType, Integer bedrooms, Integer bathrooms, String geohash) {
+        Map<String, double[]> current = segments;
+        for (Level level : Level.values()) {
+            String key = key(level, propertyType, bedrooms, bathrooms, geohash);
+            double[] rents = key != null ? current.get(key) : null;
+            if (rents != null && rents.length >= minSamples) {
+                return new Estimate(quantile(rents, 0.25), quantile(rents, 0.5), quantile(rents, 0.75),
+                        rents.length, level.description);
+            }
+        }
+        return null;
+    }
+
+    private static String key(Level level, String propertyType, Integer bedrooms, Integer bathrooms, String geohash) {
+        if (propertyType == null || propertyType.trim().isEmpty()) {
+            return null;
+        }
+        String type = propertyType.trim().toLowerCase(Locale.ROOT);
+        switch (level) {
+            case NEAR_EXACT:
+                return bedrooms == null || bathrooms == null || geohash == null || geohash.length() < NEAR_PRECISION ? null
+                        : level + "|" + type + "|" + bedrooms + "|" + bathrooms + "|" + geohash.substring(0, NEAR_PRECISION);
+            case NEAR:
+                return bedrooms == null || geohash == null || geohash.length() < NEAR_PRECISION ? null
+                        : level + "|" + type + "|" + bedrooms + "|" + geohash.substring(0, NEAR_PRECISION);
+            case AREA:
+                return bedrooms == null || geohash == null || geohash.length() < AREA_PRECISION ? null
+                        : level + "|" + type + "|" + bedrooms + "|" + geohash.substring(0, AREA_PRECISION);
+            case BEDROOMS:
+                return bedrooms == null ? null : level + "|" + type + "|" + bedrooms;
+            default:
+                return level + "|" + type;
+        }
+    }
+
+    private static double quantile(double[] sorted, double q) {
+        double position = q * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        return sorted[lower] + (sorted[upper] - sorted[lower]) * (position - lower);
+    }
+}
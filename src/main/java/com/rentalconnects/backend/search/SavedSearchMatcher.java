@@ -0,0 +1,337 @@
+package com.rentalconnects.backend.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.event.PropertiesImportedEvent;
+import com.rentalconnects.backend.event.PropertyChangedEvent;
+import com.rentalconnects.backend.model.Notification;
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.model.SavedSearch;
+import com.rentalconnects.backend.repository.SavedSearchRepository;
+import com.rentalconnects.backend.service.NotificationService;
+
+/**
+ * Matches created and updated listings against tenants' saved searches and notifies the owners.
+ *
+ * Saved searches are held in an inverted index keyed by property type, bedroom count and
+ * location word, each with a wildcard list for searches that leave the predicate unset. A
+ * changed listing only looks up its own keys and walks the smallest candidate list, verifying
+ * the remaining predicates per candidate. A listing that already matched a search before an
+ * update does not notify again. Location predicates match whole words, case-insensitively.
+ */
+@Component
+public class SavedSearchMatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavedSearchMatcher.class);
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final NotificationService notificationService;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, SavedSearch> searchesById = new HashMap<>();
+    private final Postings<String> byType = new Postings<>();
+    private final Postings<Integer> byBedrooms = new Postings<>();
+    private final Postings<String> byLocationWord = new Postings<>();
+
+    public SavedSearchMatcher(SavedSearchRepository savedSearchRepository, NotificationService notificationService) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.notificationService = notificationService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * Reloads every saved search, picking up searches saved or deleted through other instances.
+     */
+    @Scheduled(fixedDelayString = "${property.search-index.rebuild-interval-ms:300000}",
+            initialDelayString = "${property.search-index.rebuild-interval-ms:300000}")
+    public void reload() {
+        try {
+            List<SavedSearch> searches = savedSearchRepository.findAll();
+            lock.writeLock().lock();
+            try {
+                searchesById.clear();
+                byType.clear();
+                byBedrooms.clear();
+                byLocationWord.clear();
+                searches.forEach(this::index);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("[SavedSearchMatcher] Indexed {} saved searches", searches.size());
+        } catch (RuntimeException e) {
+            logger.error("[SavedSearchMatcher] Failed to load saved searches: {}", e.getMessage());
+        }
+    }
+
+    public void register(SavedSearch search) {
+        lock.writeLock().lock();
+        try {
+            unindex(search.getId());
+            index(search);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void unregister(String searchId) {
+        lock.writeLock().lock();
+        try {
+            unindex(searchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        Property property = event.getProperty();
+        if (property == null) {
+            return;
+        }
+        List<Notification> notifications = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            collectAlerts(property, event.getPrevious(), notifications);
+        } finally {
+            lock.readLock().unlock();
+        }
+        send(notifications, "Property " + property.getId());
+    }
+
+    @EventListener
+    public void onPropertiesImported(PropertiesImportedEvent event) {
+        List<Notification> notifications = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            event.getProperties().forEach(property -> collectAlerts(property, null, notifications));
+        } finally {
+            lock.readLock().unlock();
+        }
+        send(notifications, event.getProperties().size() + " imported properties");
+    }
+
+    /** Adds an alert for each search the property newly matches; the caller holds the read lock. */
+    private void collectAlerts(Property property, Property previous, List<Notification> notifications) {
+        if (!PropertySearchIndex.INDEXED_STATUSES.contains(property.getStatus())) {
+            return;
+        }
+        for (SavedSearch search : matching(property)) {
+            if (previous != null && matches(search, previous)) {
+                continue;
+            }
+            notifications.add(toNotification(search, property));
+        }
+    }
+
+    private void send(List<Notification> notifications, String source) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        // The listings are already saved; a failed alert must not fail the write that triggered it.
+        try {
+            notificationService.sendNotifications(notifications);
+            logger.info("[SavedSearchMatcher] {} matched {} saved searches", source, notifications.size());
+        } catch (RuntimeException e) {
+            logger.error("[SavedSearchMatcher] Failed to send saved search alerts for {}: {}", source, e.getMessage());
+        }
+    }
+
+    private List<SavedSearch> matching(Property property) {
+        Set<String> words = words(property.getLocation());
+        List<Collection<String>> typeCandidates = byType.candidates(Collections.singletonList(key(property.getPropertyType())));
+        List<Collection<String>> bedroomCandidates = byBedrooms.candidates(Collections.singletonList(property.getBedrooms()));
+        List<Collection<String>> locationCandidates = byLocationWord.candidates(words);
+
+        List<Collection<String>> smallest = typeCandidates;
+        if (size(bedroomCandidates) < size(smallest)) {
+            smallest = bedroomCandidates;
+        }
+        if (size(locationCandidates) < size(smallest)) {
+            smallest = locationCandidates;
+        }
+
+        List<SavedSearch> matches = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Collection<String> ids : smallest) {
+            for (String id : ids) {
+                SavedSearch search = searchesById.get(id);
+                if (seen.add(id) && matches(search, property, words)) {
+                    matches.add(search);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matches(SavedSearch search, Property property) {
+        return PropertySearchIndex.INDEXED_STATUSES.contains(property.getStatus())
+                && matches(search, property, words(property.getLocation()));
+    }
+
+    private static boolean matches(SavedSearch search, Property property, Set<String> propertyWords) {
+        if (!propertyWords.containsAll(words(search.getLocation()))) {
+            return false;
+        }
+        if (search.getPropertyType() != null && !search.getPropertyType().trim().isEmpty()
+                && !search.getPropertyType().trim().equalsIgnoreCase(property.getPropertyType())) {
+            return false;
+        }
+        if (search.getPriceMin() != null || search.getPriceMax() != null) {
+            Double rent = property.getRentBase();
+            if (rent == null
+                    || (search.getPriceMin() != null && rent < search.getPriceMin())
+                    || (search.getPriceMax() != null && rent > search.getPriceMax())) {
+                return false;
+            }
+        }
+        if (search.getBedrooms() != null && !search.getBedrooms().equals(property.getBedrooms())) {
+            return false;
+        }
+        if (search.getMinBathrooms() != null
+                && (property.getBathrooms() == null || property.getBathrooms() < search.getMinBathrooms())) {
+            return false;
+        }
+        if (search.getMinSquareFeet() != null
+                && (property.getSquareFeet() == null || property.getSquareFeet() < search.getMinSquareFeet())) {
+            return false;
+        }
+        if (search.getAmenities() != null && !search.getAmenities().isEmpty()) {
+            Set<String> amenities = new HashSet<>();
+            if (property.getAmenities() != null) {
+                property.getAmenities().forEach(amenity -> amenities.add(key(amenity)));
+            }
+            for (String amenity : search.getAmenities()) {
+                if (key(amenity) != null && !amenities.contains(key(amenity))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void index(SavedSearch search) {
+        searchesById.put(search.getId(), search);
+        byType.add(key(search.getPropertyType()), search.getId());
+        byBedrooms.add(search.getBedrooms(), search.getId());
+        byLocationWord.add(longest(words(search.getLocation())), search.getId());
+    }
+
+    private void unindex(String searchId) {
+        SavedSearch search = searchesById.remove(searchId);
+        if (search == null) {
+            return;
+        }
+        byType.remove(key(search.getPropertyType()), searchId);
+        byBedrooms.remove(search.getBedrooms(), searchId);
+        byLocationWord.remove(longest(words(search.getLocation())), searchId);
+    }
+
+    private static Notification toNotification(SavedSearch search, Property property) {
+        Notification notification = new Notification();
+        notification.setRecipientId(search.getTenantId());
+        // Feeds are read by landlordId or tenantId, so a landlord ID here would show the alert to the landlord too.
+        notification.setTenantId(search.getTenantId());
+        notification.setMessage("New listing matching your saved search \"" + search.getName() + "\": "
+                + property.getTitle() + " in " + property.getLocation());
+        return notification;
+    }
+
+    private static int size(List<Collection<String>> lists) {
+        int size = 0;
+        for (Collection<String> ids : lists) {
+            size += ids.size();
+        }
+        return size;
+    }
+
+    private static String key(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> words(String value) {
+        Set<String> words = new HashSet<>();
+        if (value != null) {
+            for (String word : value.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    private static String longest(Set<String> words) {
+        String longest = null;
+        for (String word : words) {
+            if (longest == null || word.length() > longest.length()) {
+                longest = word;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Search IDs per predicate value, plus the searches that leave the predicate unset.
+     */
+    private static final class Postings<K> {
+
+        private final Map<K, Set<String>> byValue = new HashMap<>();
+        private final Set<String> unset = new HashSet<>();
+
+        void add(K value, String searchId) {
+            if (value == null) {
+                unset.add(searchId);
+            } else {
+                byValue.computeIfAbsent(value, v -> new HashSet<>()).add(searchId);
+            }
+        }
+
+        void remove(K value, String searchId) {
+            if (value == null) {
+                unset.remove(searchId);
+                return;
+            }
+            Set<String> ids = byValue.get(value);
+            if (ids != null && ids.remove(searchId) && ids.isEmpty()) {
+                byValue.remove(value);
+            }
+        }
+
+        List<Collection<String>> candidates(Collection<K> values) {
+            List<Collection<String>> lists = new ArrayList<>();
+            lists.add(unset);
+            for (K value : values) {
+                Set<String> ids = value != null ? byValue.get(value) : null;
+                if (ids != null) {
+                    lists.add(ids);
+                }
+            }
+            return lists;
+        }
+
+        void clear() {
+            byValue.clear();
+            unset.clear();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.rentalconnects.backend.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.event.ExchangeRatesChangedEvent;
+import com.rentalconnects.backend.event.PropertiesImportedEvent;
+import com.rentalconnects.backend.event.PropertyChangedEvent;
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.repository.PropertyRepository;
+
+/**
+ * Nearest-neighbour index of available listings for "similar properties" recommendations.
+ *
+ * Each listing is encoded as a fixed-length weighted feature vector (log rent, bedrooms,
+ * bathrooms, position in kilometres, and hashed one-hot type and multi-hot amenities) stored
+ * in one flat float array. Top-k queries are an exhaustive squared-distance scan over that
+ * array; position only contributes when both listings have coordinates. The index follows
+ * {@link PropertyChangedEvent}s, is rebuilt periodically, and clears the cached
+ * recommendations whenever a listing changes.
+ */
+@Component
+public class SimilarPropertyIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarPropertyIndex.class);
+
+    public static final String CACHE_NAME = "similarProperties";
+
+    private static final int TYPE_BUCKETS = 8;
+    private static final int AMENITY_BUCKETS = 16;
+    private static final int RENT = 0;
+    private static final int BEDROOMS = 1;
+    private static final int BATHROOMS = 2;
+    private static final int NORTH_KM = 3;
+    private static final int EAST_KM = 4;
+    private static final int TYPE_OFFSET = 5;
+    private static final int AMENITY_OFFSET = TYPE_OFFSET + TYPE_BUCKETS;
+    private static final int DIMENSIONS = AMENITY_OFFSET + AMENITY_BUCKETS;
+
+    // Weights chosen so that one unit of distance is roughly: a 50% rent difference, two
+    // bedrooms, three bathrooms, 10 km, a different type, or a few differing amenities.
+    private static final float RENT_WEIGHT = (float) (1 / Math.log(1.5));
+    private static final float BEDROOM_WEIGHT = 0.5f;
+    private static final float BATHROOM_WEIGHT = 0.33f;
+    private static final float KM_WEIGHT = 0.1f;
+    private static final float TYPE_WEIGHT = 0.75f;
+    private static final float AMENITY_WEIGHT = 1.0f;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final PropertyRepository propertyRepository;
+    private final CacheManager cacheManager;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Vectors vectors;
+    private Map<String, Property> changedDuringRebuild;
+
+    public SimilarPropertyIndex(PropertyRepository propertyRepository, CacheManager cacheManager) {
+        this.propertyRepository = propertyRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return vectors != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener({ApplicationReadyEvent.class, ExchangeRatesChangedEvent.class})
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${property.similar.rebuild-interval-ms:3600000}",
+            initialDelayString = "${property.similar.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            List<Property> properties = propertyRepository.findByStatusIn(PropertySearchIndex.INDEXED_STATUSES);
+            Vectors rebuilt = new Vectors(properties.size());
+            properties.forEach(rebuilt::put);
+            lock.writeLock().lock();
+            try {
+                // Writes observed while the snapshot was being read are newer than it.
+                changedDuringRebuild.forEach((id, property) -> apply(rebuilt, id, property));
+                vectors = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            clearCache();
+            logger.info("[SimilarPropertyIndex] Encoded {} available properties", properties.size());
+        } catch (RuntimeException e) {
+            logger.error("[SimilarPropertyIndex] Failed to rebuild index: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        Property property = event.getProperty();
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(event.getPropertyId(), property);
+            }
+            if (vectors != null) {
+                apply(vectors, event.getPropertyId(), property);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        clearCache();
+    }
+
+    @EventListener
+    public void onPropertiesImported(PropertiesImportedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (Property property : event.getProperties()) {
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.put(property.getId(), property);
+                }
+                if (vectors != null) {
+                    apply(vectors, property.getId(), property);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        clearCache();
+    }
+
+    private static void apply(Vectors target, String id, Property property) {
+        if (property != null && property.getId() != null
+                && PropertySearchIndex.INDEXED_STATUSES.contains(property.getStatus())) {
+            target.put(property);
+        } else {
+            target.remove(id);
+        }
+    }
+
+    /**
+     * Returns the IDs of the {@code k} available listings closest to the given one, nearest first.
+     * The listing itself is never included.
+     */
+    public List<String> nearest(Property property, int k) {
+        float[] query = new float[DIMENSIONS];
+        boolean located = encode(property, query, 0);
+        lock.readLock().lock();
+        try {
+            if (vectors == null) {
+                throw new IllegalStateException("Similar property index is not loaded");
+            }
+            return vectors.nearest(property.getId(), query, located, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clearCache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Writes the weighted feature vector of a property into {@code target} at {@code offset}.
+     *
+     * @return Whether the property has coordinates.
+     */
+    private static boolean encode(Property property, float[] target, int offset) {
+        Arrays.fill(target, offset, offset + DIMENSIONS, 0f);
+        Double rent = property.getRentBase();
+        target[offset + RENT] = rent != null && rent > 0 ? (float) Math.log(rent) * RENT_WEIGHT : 0f;
+        target[offset + BEDROOMS] = property.getBedrooms() != null ? property.getBedrooms() * BEDROOM_WEIGHT : 0f;
+        target[offset + BATHROOMS] = property.getBathrooms() != null ? property.getBathrooms() * BATHROOM_WEIGHT : 0f;
+        boolean located = property.getGeoPoint() != null;
+        if (located) {
+            double latitude = property.getGeoPoint().getY();
+            double longitude = property.getGeoPoint().getX();
+            target[offset + NORTH_KM] = (float) (latitude * KM_PER_DEGREE * KM_WEIGHT);
+            target[offset + EAST_KM] = (float) (longitude * KM_PER_DEGREE * Math.cos(Math.toRadians(latitude)) * KM_WEIGHT);
+        }
+        if (property.getPropertyType() != null) {
+            target[offset + TYPE_OFFSET + bucket(property.getPropertyType(), TYPE_BUCKETS)] = TYPE_WEIGHT;
+        }
+        if (property.getAmenities() != null && !property.getAmenities().isEmpty()) {
+            float weight = AMENITY_WEIGHT / (float) Math.sqrt(property.getAmenities().size());
+            for (String amenity : property.getAmenities()) {
+                if (amenity != null) {
+                    target[offset + AMENITY_OFFSET + bucket(amenity, AMENITY_BUCKETS)] = weight;
+                }
+            }
+        }
+        return located;
+    }
+
+    private static int bucket(String value, int buckets) {
+        return Math.floorMod(value.trim().toLowerCase(Locale.ROOT).hashCode(), buckets);
+    }
+
+    /**
+     * Slot-addressed flat vector store. Not thread-safe; guarded by the enclosing index's lock.
+     */
+    private static final class Vectors {
+
+        private final Map<String, Integer> slotsById = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private String[] ids;
+        private boolean[] located;
+        private float[] data;
+        private int slotCount;
+
+        Vectors(int expectedSize) {
+            int capacity = Math.max(16, expectedSize + expectedSize / 4);
+            ids = new String[capacity];
+            located = new boolean[capacity];
+            data = new float[capacity * DIMENSIONS];
+        }
+
+        void put(Property property) {
+            Integer existing = slotsById.get(property.getId());
+            int slot = existing != null ? existing : freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+            ensureCapacity(slot + 1);
+            ids[slot] = property.getId();
+            located[slot] = encode(property, data, slot * DIMENSIONS);
+            slotsById.put(property.getId(), slot);
+        }
+
+        void remove(String id) {
+            Integer slot = slotsById.remove(id);
+            if (slot != null) {
+                ids[slot] = null;
+                freeSlots.push(slot);
+            }
+        }
+
+        List<String> nearest(String excludeId, float[] query, boolean queryLocated, int k) {
+            // Max-heap on distance holding the best k seen so far.
+            PriorityQueue<double[]> best = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(b[0], a[0]));
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (ids[slot] == null || ids[slot].equals(excludeId)) {
+                    continue;
+                }
+                boolean useLocation = queryLocated && located[slot];
+                int base = slot * DIMENSIONS;
+                double distance = 0;
+                for (int d = 0; d < DIMENSIONS; d++) {
+                    if (!useLocation && (d == NORTH_KM || d == EAST_KM)) {
+                        continue;
+                    }
+                    double delta = query[d] - data[base + d];
+                    distance += delta * delta;
+                }
+                if (best.size() < k) {
+                    best.add(new double[] {distance, slot});
+                } else if (distance < best.peek()[0]) {
+                    best.poll();
+                    best.add(new double[] {distance, slot});
+                }
+            }
+            List<double[]> ordered = new ArrayList<>(best);
+            ordered.sort((a, b) -> Double.compare(a[0], b[0]));
+            List<String> result = new ArrayList<>(ordered.size());
+            ordered.forEach(entry -> result.add(ids[(int) entry[1]]));
+            return result;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= ids.length) {
+                return;
+            }
+            int capacity = Math.max(required, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            located = Arrays.copyOf(located, capacity);
+            data = Arrays.copyOf(data, capacity * DIMENSIONS);
+        }
+    }
+}
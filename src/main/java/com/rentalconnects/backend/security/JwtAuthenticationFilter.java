@@ -50,6 +50,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             (path.startsWith("/api/properties/") && method.equals("GET")) ||
             (path.startsWith("/images/")) ||
             (path.startsWith("/uploads/properties/") && method.equals("GET")) ||
+            (path.equals("/api/payments/paystack/callback") && method.equals("POST")) ||
             (method.equals("OPTIONS"))) {
             logger.debug("Skipping JWT validation for public endpoint: {} at {}", path, java.time.Instant.now());
             filterChain.doFilter(request, response);
@@ -161,6 +161,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
                 (path.equals("/api/properties") && method.equals("GET")) ||
                 (path.startsWith("/api/properties/") && method.equals("GET")) ||
                 (path.startsWith("/uploads/properties/") && method.equals("GET")) ||
+                (path.equals("/api/payments/paystack/callback") && method.equals("POST")) ||
                 path.equals("/error");
         log.debug("Path: {}, Method: {}, Is Public: {}", path, method, isPublic);
         return isPublic;
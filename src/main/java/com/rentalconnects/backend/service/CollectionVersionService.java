@@ -0,0 +1,24 @@
+package com.rentalconnects.backend.service;
+
+/**
+ * Interface for the per-collection change counters behind list ETags.
+ */
+public interface CollectionVersionService {
+
+    /** Name of the counter for the properties collection. */
+    String PROPERTIES = "properties";
+
+    /**
+     * @param name The collection name.
+     * @return The current version, or 0 if the collection has never been bumped.
+     */
+    long getVersion(String name);
+
+    /**
+     * Atomically increments the version of a collection.
+     *
+     * @param name The collection name.
+     * @return The new version.
+     */
+    long bump(String name);
+}
@@ -63,16 +63,7 @@ public class DashboardService {
         dashboardData.setTotalProperties(properties.size());
 
         // Active Rentals
-        List<Lease> leases = leaseRepository.findByLandlordId(landlordId);
-        long activeRentals = leases.stream()
-                .filter(lease -> {
-                    LocalDate today = LocalDate.now();
-                    LocalDate startDate = lease.getStartDate();
-                    LocalDate endDate = lease.getEndDate();
-                    return startDate != null && endDate != null &&
-                           !today.isBefore(startDate) && !today.isAfter(endDate);
-                })
-                .count();
+        long activeRentals = leaseRepository.countByLandlordIdAndStatus(landlordId, Lease.STATUS_ACTIVE);
         dashboardData.setActiveRentals((int) activeRentals);
 
         // Monthly Revenue
@@ -0,0 +1,41 @@
+package com.rentalconnects.backend.service;
+
+import java.util.Map;
+
+/**
+ * Interface for the exchange-rate table used to normalize rents into the base currency.
+ */
+public interface ExchangeRateService {
+
+    /**
+     * @return The ISO code of the base currency that normalized rents are expressed in.
+     */
+    String getBaseCurrency();
+
+    /**
+     * @return The current rates, as units of base currency per unit of each currency.
+     */
+    Map<String, Double> getRates();
+
+    /**
+     * Converts an amount into the base currency.
+     *
+     * @param amount   The amount to convert.
+     * @param currency The ISO code of the amount's currency; null is treated as the base currency.
+     * @return The converted amount, or null if the amount is null or the currency has no rate.
+     */
+    Double toBase(Double amount, String currency);
+
+    /**
+     * Stores rate overrides and re-normalizes rents for every currency whose rate changed.
+     *
+     * @param rates Rates keyed by ISO currency code.
+     * @return The rates in effect afterwards.
+     */
+    Map<String, Double> updateRates(Map<String, Double> rates);
+
+    /**
+     * Reloads the rate file and stored overrides, re-normalizing rents if any rate changed.
+     */
+    void refreshRates();
+}
@@ -0,0 +1,21 @@
+package com.rentalconnects.backend.service;
+
+import java.util.Optional;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+/**
+ * Resolves a free-text address or location to a GeoJSON point.
+ * The default implementation is a local stand-in; a remote geocoding
+ * provider can replace it by registering another Geocoder bean.
+ */
+public interface Geocoder {
+
+    /**
+     * Geocodes an address.
+     *
+     * @param address The address or location text.
+     * @return The resolved point (longitude, latitude), or empty if it cannot be resolved.
+     */
+    Optional<GeoJsonPoint> geocode(String address);
+}
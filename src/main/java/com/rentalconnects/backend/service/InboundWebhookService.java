@@ -0,0 +1,20 @@
+package com.rentalconnects.backend.service;
+
+/**
+ * Interface for the inbound webhook queue: deliveries are stored and acknowledged at once,
+ * and processed asynchronously with retries.
+ */
+public interface InboundWebhookService {
+
+    String PROVIDER_PAYSTACK = "paystack";
+
+    /**
+     * Queues a verified webhook delivery for processing.
+     *
+     * @param provider The webhook provider, e.g. {@link #PROVIDER_PAYSTACK}.
+     * @param body     The raw JSON request body.
+     * @return False if the same delivery is already queued or processed.
+     * @throws IllegalArgumentException If the body is not a JSON object.
+     */
+    boolean enqueue(String provider, byte[] body);
+}
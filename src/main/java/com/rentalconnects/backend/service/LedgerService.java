@@ -0,0 +1,98 @@
+package com.rentalconnects.backend.service;
+
+import java.util.List;
+
+import com.rentalconnects.backend.model.LeaseBalance;
+import com.rentalconnects.backend.model.LedgerEntry;
+import com.rentalconnects.backend.model.Payment;
+
+/**
+ * Interface for the per-lease rent ledger and its materialized balances.
+ */
+public interface LedgerService {
+
+    /**
+     * Records the amounts of the given rent invoices as charges on their leases. Payments that
+     * are not invoices (no period or due date) or have no lease are ignored, and charges already
+     * recorded for an invoice are skipped.
+     *
+     * @param payments The invoices to charge.
+     */
+    void recordCharges(List<Payment> payments);
+
+    /**
+     * Records the late fees set on the given overdue invoices as charges on their leases.
+     * Late fees already recorded for an invoice are skipped.
+     *
+     * @param payments Invoices carrying a late fee.
+     */
+    void recordLateFees(List<Payment> payments);
+
+    /**
+     * Records a completed payment against its lease. If the payment is an invoice whose charge
+     * was voided by an earlier failure, or never recorded, the charge is restored first, so the
+     * payment and its charge cancel out. Recording the same payment twice has no effect.
+     *
+     * @param payment The completed payment.
+     */
+    void recordPaymentReceived(Payment payment);
+
+    /**
+     * Reverses the charge of an invoice that is removed or fails before being completed.
+     * Other payments were never charged and are ignored.
+     *
+     * @param payment The payment being removed or failed.
+     */
+    void recordPaymentVoided(Payment payment);
+
+    /**
+     * Adjusts the charge of an open invoice whose amount was edited by the difference to its
+     * previous amount. Other payments were never charged and are ignored.
+     *
+     * @param payment        The invoice with its new amount.
+     * @param previousAmount The amount it was charged at.
+     */
+    void recordChargeAmended(Payment payment, Double previousAmount);
+
+    /**
+     * Records a manual adjustment on a landlord's lease.
+     *
+     * @param landlordId  The ID of the landlord owning the lease.
+     * @param leaseId     The ID of the lease.
+     * @param amount      Amount added to what the tenant owes; negative for a credit.
+     * @param description Reason for the adjustment.
+     * @return The recorded entry.
+     */
+    LedgerEntry recordAdjustment(String landlordId, String leaseId, Double amount, String description);
+
+    /**
+     * Retrieves the materialized balance of a landlord's lease.
+     *
+     * @param landlordId The ID of the landlord owning the lease.
+     * @param leaseId    The ID of the lease.
+     * @return The balance; zero totals if nothing has been recorded yet.
+     */
+    LeaseBalance getBalance(String landlordId, String leaseId);
+
+    /**
+     * Retrieves the ledger entries of a landlord's lease, oldest first.
+     *
+     * @param landlordId The ID of the landlord owning the lease.
+     * @param leaseId    The ID of the lease.
+     * @return The lease's ledger entries.
+     */
+    List<LedgerEntry> getEntries(String landlordId, String leaseId);
+
+    /**
+     * Retrieves the landlord's leases with rent owed, largest balance first.
+     *
+     * @param landlordId The ID of the landlord.
+     * @return Balances greater than zero.
+     */
+    List<LeaseBalance> getArrears(String landlordId);
+
+    /**
+     * Finishes appends that were interrupted between writing an entry and updating its balance.
+     */
+    void recoverPendingEntries();
+}
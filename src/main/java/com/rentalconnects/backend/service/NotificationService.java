@@ -43,6 +43,14 @@ public interface NotificationService {
      */
     Notification sendNotification(Notification notification);
 
+    /**
+     * Sends a batch of notifications, saving them in a single write.
+     *
+     * @param notifications The Notification objects to send.
+     * @return The saved Notification objects.
+     */
+    List<Notification> sendNotifications(List<Notification> notifications);
+
     /**
      * Updates the status of a notification (e.g., mark as read/unread).
      *
@@ -0,0 +1,152 @@
+package com.rentalconnects.backend.service;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.rentalconnects.backend.exception.ServiceUnavailableException;
+import com.rentalconnects.backend.util.CircuitBreaker;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Outbound HTTP client for the Paystack API.
+ *
+ * Calls go through a shared JDK HttpClient, which keeps connections alive between requests,
+ * with connect and read timeouts so a slow Paystack cannot hold a request thread for long.
+ * A bulkhead caps the number of calls in flight and a circuit breaker stops calling Paystack
+ * after repeated timeouts or 5xx responses; both fail fast with
+ * {@link ServiceUnavailableException}. Every call is timed in the "paystack.http.requests"
+ * metric, tagged with its operation and outcome.
+ */
+@Component
+public class PaystackClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaystackClient.class);
+
+    private final RestTemplate restTemplate;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadWait;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public PaystackClient(MeterRegistry meterRegistry,
+                          @Value("${paystack.http.connect-timeout-ms:2000}") long connectTimeoutMillis,
+                          @Value("${paystack.http.read-timeout-ms:5000}") long readTimeoutMillis,
+                          @Value("${paystack.http.max-concurrent-calls:20}") int maxConcurrentCalls,
+                          @Value("${paystack.http.bulkhead-wait-ms:200}") long bulkheadWaitMillis,
+                          @Value("${paystack.http.breaker.failure-threshold:5}") int failureThreshold,
+                          @Value("${paystack.http.breaker.open-ms:30000}") long openMillis) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadWait = Duration.ofMillis(bulkheadWaitMillis);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, Duration.ofMillis(openMillis));
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("paystack.http.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Paystack circuit state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        Gauge.builder("paystack.http.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Paystack calls that can start without waiting")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends a request to Paystack.
+     *
+     * @param operation    Short name of the call, used to tag its metrics.
+     * @param url          Full request URL.
+     * @param method       HTTP method.
+     * @param request      Request body and headers.
+     * @param responseType Type of the response body.
+     * @return The response.
+     * @throws ServiceUnavailableException If the call is shed, times out or cannot connect.
+     * @throws org.springframework.web.client.RestClientException For error responses from Paystack.
+     */
+    public <T> ResponseEntity<T> exchange(String operation, String url, HttpMethod method, HttpEntity<?> request,
+                                          ParameterizedTypeReference<T> responseType) {
+        if (!circuitBreaker.tryAcquire()) {
+            record(operation, "short_circuited", 0);
+            throw new ServiceUnavailableException("Paystack is unavailable, please retry shortly");
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.onIgnored();
+            record(operation, "rejected", 0);
+            logger.warn("[PaystackClient] Rejecting {} call: too many Paystack calls in flight", operation);
+            throw new ServiceUnavailableException("Too many Paystack requests in progress, please retry shortly");
+        }
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            ResponseEntity<T> response = restTemplate.exchange(url, method, request, responseType);
+            circuitBreaker.onSuccess();
+            return response;
+        } catch (HttpServerErrorException e) {
+            outcome = "server_error";
+            circuitBreaker.onFailure();
+            throw e;
+        } catch (HttpStatusCodeException e) {
+            // A 4xx answer is about the request; Paystack itself is healthy.
+            outcome = "client_error";
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (ResourceAccessException e) {
+            outcome = "io_error";
+            circuitBreaker.onFailure();
+            logger.error("[PaystackClient] {} call failed: {}", operation, e.getMessage());
+            throw new ServiceUnavailableException("Paystack did not respond, please retry shortly", e);
+        } catch (CancellationException e) {
+            // JdkClientHttpRequest cancels the exchange when the read timeout passes.
+            outcome = "timeout";
+            circuitBreaker.onFailure();
+            logger.error("[PaystackClient] {} call timed out", operation);
+            throw new ServiceUnavailableException("Paystack did not respond, please retry shortly", e);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            circuitBreaker.onIgnored();
+            throw e;
+        } finally {
+            bulkhead.release();
+            record(operation, outcome, System.nanoTime() - start);
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(String operation, String outcome, long nanos) {
+        Timer.builder("paystack.http.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
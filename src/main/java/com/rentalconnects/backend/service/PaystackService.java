@@ -1,11 +1,25 @@
 package com.rentalconnects.backend.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.Map;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -13,12 +27,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 
+import com.rentalconnects.backend.exception.ServiceUnavailableException;
 import com.rentalconnects.backend.model.Notification;
 import com.rentalconnects.backend.model.Payment;
+import com.rentalconnects.backend.model.PaystackWebhookEvent;
 import com.rentalconnects.backend.repository.PaymentRepository;
+import com.rentalconnects.backend.repository.PaystackWebhookEventRepository;
 
 /**
  * Service class for integrating with the Paystack payment gateway.
@@ -29,9 +45,12 @@ public class PaystackService {
 
     private static final Logger logger = LoggerFactory.getLogger(PaystackService.class);
     private final PaymentRepository paymentRepository;
+    private final PaystackWebhookEventRepository webhookEventRepository;
+    private final MongoTemplate mongoTemplate;
     private final NotificationService notificationService;
     private final TransactionService transactionService;
-    private final RestTemplate restTemplate;
+    private final LedgerService ledgerService;
+    private final PaystackClient paystackClient;
 
     @Value("${paystack.api.url}")
     private String paystackApiUrl;
@@ -39,23 +58,57 @@ public class PaystackService {
     @Value("${paystack.secret.key}")
     private String paystackSecretKey;
 
+    // Defaults to the webhook queue's lease, so a delivery reclaimed from a dead worker can take over.
+    @Value("${paystack.webhook.processing-grace-ms:${webhooks.lease-ms:120000}}")
+    private long processingGraceMillis;
+
     /**
      * Constructs a PaystackService with required dependencies.
      *
      * @param paymentRepository Repository for payment data
+     * @param webhookEventRepository Store of processed Paystack callbacks
+     * @param mongoTemplate Template for conditional payment updates
      * @param notificationService Service for sending notifications
      * @param transactionService Service for transaction management
-     * @param restTemplate HTTP client for API calls
+     * @param ledgerService Service for the per-lease rent ledger
+     * @param paystackClient HTTP client for Paystack API calls
      */
-    public PaystackService(PaymentRepository paymentRepository, NotificationService notificationService,
-                          TransactionService transactionService, RestTemplate restTemplate) {
+    public PaystackService(PaymentRepository paymentRepository, PaystackWebhookEventRepository webhookEventRepository,
+                          MongoTemplate mongoTemplate, NotificationService notificationService,
+                          TransactionService transactionService, LedgerService ledgerService,
+                          PaystackClient paystackClient) {
         this.paymentRepository = paymentRepository;
+        this.webhookEventRepository = webhookEventRepository;
+        this.mongoTemplate = mongoTemplate;
         this.notificationService = notificationService;
         this.transactionService = transactionService;
-        this.restTemplate = restTemplate;
+        this.ledgerService = ledgerService;
+        this.paystackClient = paystackClient;
         logger.info("PaystackService initialized");
     }
 
+    /**
+     * Checks the x-paystack-signature header of a webhook delivery: the hex HMAC-SHA512 of
+     * the raw request body keyed with the secret key.
+     *
+     * @param body The raw request body
+     * @param signature The signature header, may be null
+     * @return true if the signature matches the body
+     */
+    public boolean isValidSignature(byte[] body, String signature) {
+        if (signature == null || body == null) {
+            return false;
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA512");
+            mac.init(new SecretKeySpec(paystackSecretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA512"));
+            byte[] expected = HexFormat.of().formatHex(mac.doFinal(body)).getBytes(StandardCharsets.US_ASCII);
+            return MessageDigest.isEqual(expected, signature.trim().toLowerCase().getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to verify Paystack signature", e);
+        }
+    }
+
     /**
      * Initiates a Paystack payment session for the given payment ID and tenant.
      *
@@ -65,6 +118,7 @@ public class PaystackService {
      * @return The authorization URL for the payment
      * @throws IllegalArgumentException If payment details are invalid
      * @throws IllegalStateException If Paystack API call fails
+     * @throws ServiceUnavailableException If Paystack is unreachable or calls to it are being shed
      */
     public String initiatePaystackPayment(String paymentId, String tenantId, Map<String, Object> paymentDetails) {
         logger.info("Initiating Paystack payment for paymentId: {}, tenantId: {}", paymentId, tenantId);
@@ -100,7 +154,8 @@ public class PaystackService {
         logger.debug("Sending Paystack request: {}", paystackRequest);
 
         try {
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            ResponseEntity<Map<String, Object>> response = paystackClient.exchange(
+                    "initialize",
                     paystackApiUrl + "/transaction/initialize",
                     HttpMethod.POST,
                     requestEntity,
@@ -144,67 +199,156 @@ public class PaystackService {
     /**
      * Processes a Paystack payment callback to update payment status and send notifications.
      *
+     * Each Paystack reference is processed once: it is first recorded in the webhook event
+     * store, whose ID index rejects retried and duplicate deliveries before they touch the
+     * payment. The payment then moves to COMPLETED or FAILED with a conditional update, so
+     * a payment that is already settled is left alone. Side effects run only for the
+     * reference that settled the payment; if they fail, the event record is removed so
+     * Paystack's retry can finish the work.
+     *
+     * A duplicate returns quietly only once the recorded reference has an outcome. A record
+     * without one belongs to a delivery that is still running or died part-way: after the
+     * processing grace period the duplicate takes it over and settles the payment again,
+     * which the conditional updates make safe; before that it throws so it is retried later.
+     *
      * @param callbackData Map containing callback data from Paystack
+     * @throws RuntimeException If the reference is still being processed by another delivery,
+     *                          or processing failed; the delivery should be retried
      */
     public void processPaystackCallback(Map<String, Object> callbackData) {
         logger.info("Processing Paystack callback: {}", callbackData);
-        String status = (String) callbackData.get("status");
+        // Webhook events wrap the transaction in "data"; redirect callbacks carry it at the top level.
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = callbackData.get("data") instanceof Map
+                ? (Map<String, Object>) callbackData.get("data") : callbackData;
+        String status = (String) data.get("status");
         @SuppressWarnings("unchecked")
-        Map<String, Object> metadata = (Map<String, Object>) callbackData.get("metadata");
+        Map<String, Object> metadata = (Map<String, Object>) data.get("metadata");
         String paymentId = metadata != null ? (String) metadata.get("payment_id") : null;
 
         if (paymentId == null) {
             logger.error("Invalid paymentId in callback: {}", callbackData);
             return;
         }
+        boolean success = "success".equalsIgnoreCase(status);
+        String reference = data.get("reference") != null
+                ? data.get("reference").toString() : "payment:" + paymentId + ":" + (success ? "success" : "failed");
+
+        try {
+            webhookEventRepository.insert(new PaystackWebhookEvent(reference, paymentId, status));
+        } catch (DuplicateKeyException e) {
+            if (!claimUnfinished(reference)) {
+                logger.info("Ignoring duplicate Paystack callback for reference {}", reference);
+                return;
+            }
+        }
+
+        String outcome;
+        try {
+            outcome = success ? completePayment(paymentId, reference) : failPayment(paymentId, reference);
+        } catch (RuntimeException e) {
+            webhookEventRepository.deleteById(reference);
+            throw e;
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(reference)),
+                new Update().set("outcome", outcome).set("processedAt", LocalDateTime.now()), PaystackWebhookEvent.class);
+    }
+
+    /**
+     * Takes over a recorded reference whose processing never finished.
+     *
+     * @return true if this delivery should process the reference, false if it was already processed
+     * @throws RuntimeException If another delivery is still within its grace period
+     */
+    private boolean claimUnfinished(String reference) {
+        LocalDateTime now = LocalDateTime.now();
+        PaystackWebhookEvent claimed = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(reference).and("outcome").is(null).orOperator(
+                        Criteria.where("claimedAt").lt(now.minus(Duration.ofMillis(processingGraceMillis))),
+                        Criteria.where("claimedAt").is(null))),
+                new Update().set("claimedAt", now), PaystackWebhookEvent.class);
+        if (claimed != null) {
+            logger.warn("Resuming unfinished Paystack callback for reference {}", reference);
+            return true;
+        }
+        PaystackWebhookEvent event = webhookEventRepository.findById(reference).orElse(null);
+        if (event != null && event.getOutcome() != null) {
+            return false;
+        }
+        // Either still being processed, or released by a failed attempt since the insert.
+        throw new RuntimeException("Paystack callback for reference " + reference + " is still being processed");
+    }
 
-        Payment payment = paymentRepository.findById(paymentId).orElse(null);
+    private String completePayment(String paymentId, String reference) {
+        LocalDateTime now = LocalDateTime.now();
+        Payment payment = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(paymentId).and("status").ne(Payment.STATUS_COMPLETED)),
+                new Update().set("status", Payment.STATUS_COMPLETED).set("paymentDate", now).set("updatedAt", now)
+                        .set("paystackReference", reference).inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true), Payment.class);
         if (payment == null) {
-            logger.error("Payment not found for paymentId: {}", paymentId);
-            return;
+            payment = paymentRepository.findById(paymentId).orElse(null);
+            // A retry of the reference that completed the payment finishes its side effects.
+            if (payment == null || !reference.equals(payment.getPaystackReference())) {
+                logger.info("Payment {} not found or already completed, ignoring reference {}", paymentId, reference);
+                return "IGNORED";
+            }
         }
 
-        if ("success".equalsIgnoreCase(status)) {
-            payment.setStatus("COMPLETED");
-            payment.setPaymentDate(LocalDateTime.now());
-            payment.setUpdatedAt(LocalDateTime.now());
-            paymentRepository.save(payment);
-            transactionService.createTransactionFromPayment(paymentId);
-
-            Notification landlordNotification = new Notification();
-            landlordNotification.setRecipientId(payment.getLandlordId());
-            landlordNotification.setLandlordId(payment.getLandlordId());
-            landlordNotification.setTenantId(payment.getTenantId());
-            landlordNotification.setMessage("Payment of $" + payment.getAmount() + " received from tenant for " + payment.getName());
-            landlordNotification.setIsRead(false);
-            landlordNotification.setCreatedAt(LocalDateTime.now());
-            notificationService.sendNotification(landlordNotification);
-
-            Notification tenantNotification = new Notification();
-            tenantNotification.setRecipientId(payment.getTenantId());
-            tenantNotification.setLandlordId(payment.getLandlordId());
-            tenantNotification.setTenantId(payment.getTenantId());
-            tenantNotification.setMessage("Payment of $" + payment.getAmount() + " successfully processed for " + payment.getName());
-            tenantNotification.setIsRead(false);
-            tenantNotification.setCreatedAt(LocalDateTime.now());
-            notificationService.sendNotification(tenantNotification);
-
-            logger.info("Payment {} marked as COMPLETED", paymentId);
-        } else {
-            payment.setStatus("FAILED");
-            payment.setUpdatedAt(LocalDateTime.now());
-            paymentRepository.save(payment);
+        transactionService.createTransactionFromPayment(paymentId);
+        ledgerService.recordPaymentReceived(payment);
+
+        Notification landlordNotification = new Notification();
+        landlordNotification.setRecipientId(payment.getLandlordId());
+        landlordNotification.setLandlordId(payment.getLandlordId());
+        landlordNotification.setTenantId(payment.getTenantId());
+        landlordNotification.setMessage("Payment of $" + payment.getAmount() + " received from tenant for " + payment.getName());
+        landlordNotification.setIsRead(false);
+        landlordNotification.setCreatedAt(LocalDateTime.now());
+        notificationService.sendNotification(landlordNotification);
 
-            Notification tenantNotification = new Notification();
-            tenantNotification.setRecipientId(payment.getTenantId());
-            tenantNotification.setLandlordId(payment.getLandlordId());
-            tenantNotification.setTenantId(payment.getTenantId());
-            tenantNotification.setMessage("Payment of $" + payment.getAmount() + " for " + payment.getName() + " failed");
-            tenantNotification.setIsRead(false);
-            tenantNotification.setCreatedAt(LocalDateTime.now());
-            notificationService.sendNotification(tenantNotification);
+        Notification tenantNotification = new Notification();
+        tenantNotification.setRecipientId(payment.getTenantId());
+        tenantNotification.setLandlordId(payment.getLandlordId());
+        tenantNotification.setTenantId(payment.getTenantId());
+        tenantNotification.setMessage("Payment of $" + payment.getAmount() + " successfully processed for " + payment.getName());
+        tenantNotification.setIsRead(false);
+        tenantNotification.setCreatedAt(LocalDateTime.now());
+        notificationService.sendNotification(tenantNotification);
+
+        logger.info("Payment {} marked as COMPLETED", paymentId);
+        return Payment.STATUS_COMPLETED;
+    }
 
-            logger.warn("Payment {} marked as FAILED", paymentId);
+    private String failPayment(String paymentId, String reference) {
+        // A late failure notice must not undo a completed payment.
+        Payment payment = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(paymentId).and("status").nin(Payment.STATUS_COMPLETED, Payment.STATUS_FAILED)),
+                new Update().set("status", Payment.STATUS_FAILED).set("updatedAt", LocalDateTime.now())
+                        .set("paystackReference", reference).inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true), Payment.class);
+        if (payment == null) {
+            payment = paymentRepository.findById(paymentId).orElse(null);
+            // A retry of the reference that failed the payment finishes its side effects.
+            if (payment == null || !Payment.STATUS_FAILED.equals(payment.getStatus())
+                    || !reference.equals(payment.getPaystackReference())) {
+                logger.info("Payment {} not found or already settled, ignoring failed reference {}", paymentId, reference);
+                return "IGNORED";
+            }
         }
+
+        ledgerService.recordPaymentVoided(payment);
+
+        Notification tenantNotification = new Notification();
+        tenantNotification.setRecipientId(payment.getTenantId());
+        tenantNotification.setLandlordId(payment.getLandlordId());
+        tenantNotification.setTenantId(payment.getTenantId());
+        tenantNotification.setMessage("Payment of $" + payment.getAmount() + " for " + payment.getName() + " failed");
+        tenantNotification.setIsRead(false);
+        tenantNotification.setCreatedAt(LocalDateTime.now());
+        notificationService.sendNotification(tenantNotification);
+
+        logger.warn("Payment {} marked as FAILED", paymentId);
+        return Payment.STATUS_FAILED;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.rentalconnects.backend.service;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Interface for streaming catalogue exports to partner feeds.
+ */
+public interface PropertyExportService {
+
+    /**
+     * Writes properties as newline-delimited JSON, one property per line in ascending ID order,
+     * reading them from a MongoDB cursor so memory use does not grow with the catalogue.
+     * A full export contains the available listings; an incremental export contains every
+     * property updated since the given time, whatever its status, plus a deletion line for
+     * every property deleted since then, so feeds can drop listings that left the market.
+     * An interrupted export resumes by passing the ID on its last line.
+     *
+     * @param since   If set, only properties updated at or after this time.
+     * @param afterId If set, only properties with a greater ID.
+     * @param out     The stream to write to; it is flushed but not closed.
+     * @return The number of lines written.
+     */
+    long exportProperties(LocalDateTime since, String afterId, OutputStream out);
+}
@@ -0,0 +1,29 @@
+package com.rentalconnects.backend.service;
+
+import java.util.Optional;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.rentalconnects.backend.model.PropertyImportJob;
+
+/**
+ * Interface for bulk property imports from a CSV or JSON file plus a zip archive of images.
+ */
+public interface PropertyImportService {
+
+    /**
+     * Stores the uploaded files and starts importing them in the background.
+     *
+     * @param landlordId The landlord the properties are created for.
+     * @param data       A CSV file with a header row, or a JSON array of objects, one property per row.
+     * @param images     An optional zip archive holding the image files the rows refer to, by path
+     *                   within the archive or, where it is unique, by file name.
+     * @return The pending job, whose progress can be polled with {@link #getJob}.
+     */
+    PropertyImportJob startImport(String landlordId, MultipartFile data, MultipartFile images);
+
+    /**
+     * @return The job, if it exists and belongs to the landlord.
+     */
+    Optional<PropertyImportJob> getJob(String jobId, String landlordId);
+}
@@ -1,14 +1,24 @@
 package com.rentalconnects.backend.service;
 
+import com.rentalconnects.backend.dto.LocationSuggestionDTO;
+import com.rentalconnects.backend.dto.PropertyClusterDTO;
+import com.rentalconnects.backend.dto.PropertyDistanceDTO;
+import com.rentalconnects.backend.dto.PropertyFacetsDTO;
+import com.rentalconnects.backend.dto.PropertySearchRequest;
+import com.rentalconnects.backend.dto.RentEstimateDTO;
 import com.rentalconnects.backend.model.Property;
 import com.rentalconnects.backend.model.Viewing;
 import com.rentalconnects.backend.model.RentalApplication;
 import com.rentalconnects.backend.model.MaintenanceRequest;
+import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PropertyService {
 
@@ -20,8 +30,45 @@ public interface PropertyService {
 
     Property createProperty(Property property, List<MultipartFile> images, Integer primaryImageIndex) throws IOException;
 
+    /**
+     * Validates an imported property with the same rules as a single create, assigns it to the
+     * landlord and fills in derived fields, without saving it.
+     */
+    Property prepareImportedProperty(Property property, String landlordId);
+
+    /**
+     * Inserts prepared properties in one unordered bulk write and publishes a single
+     * {@link com.rentalconnects.backend.event.PropertiesImportedEvent} for the ones that were written.
+     *
+     * @return Error messages of the properties that could not be written, keyed by list index.
+     */
+    Map<Integer, String> insertImportedProperties(List<Property> properties);
+
+    /**
+     * After {@link #insertImportedProperties} failed outright, finds which of the properties were
+     * written anyway and publishes a {@link com.rentalconnects.backend.event.PropertiesImportedEvent}
+     * for them.
+     *
+     * @return IDs of the properties that were written.
+     */
+    Set<String> recoverImportedProperties(List<Property> properties);
+
+    /**
+     * Resizes, compresses and stores one listing image.
+     *
+     * @return The public URL of the stored image.
+     */
+    String storeImage(InputStream data, String originalFilename) throws IOException;
+
+    void deleteStoredImages(List<String> imageUrls);
+
     Optional<Property> getPropertyById(String id);
 
+    /**
+     * Loads only the ID and last-modified time of a property, for conditional requests.
+     */
+    Optional<Property> getPropertyVersionStamp(String id);
+
     List<Property> getAllActiveProperties();
 
     List<Property> getAllProperties();
@@ -46,10 +93,31 @@ public interface PropertyService {
 
     List<Property> searchPropertiesByAddress(String address);
 
+    Page<Property> searchProperties(String query, PropertySearchRequest filter, int page, int size);
+
+    List<PropertyDistanceDTO> findPropertiesNear(double latitude, double longitude, double radiusKm, PropertySearchRequest filter, int limit);
+
+    List<Property> findPropertiesInBounds(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                          PropertySearchRequest filter, int limit);
+
+    List<PropertyClusterDTO> clusterPropertiesInBounds(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                                       int zoom, PropertySearchRequest filter);
+
+    PropertyFacetsDTO getFacetCounts(PropertySearchRequest filter, double[] rentBuckets);
+
     List<Property> getPropertiesByType(String type);
 
     List<Property> getFilteredProperties(String location, Double priceMin, Double priceMax, String propertyType, Integer bedrooms);
 
+    List<Property> getFilteredProperties(PropertySearchRequest filter);
+
+    List<LocationSuggestionDTO> suggestLocations(String prefix, int limit);
+
+    List<Property> getSimilarProperties(String propertyId, int limit);
+
+    RentEstimateDTO estimateRent(String propertyType, Integer bedrooms, Integer bathrooms,
+                                 Double latitude, Double longitude, String location, String currency);
+
     void scheduleViewing(Viewing viewing);
 
     void applyForProperty(RentalApplication application);
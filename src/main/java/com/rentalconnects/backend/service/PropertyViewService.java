@@ -0,0 +1,32 @@
+package com.rentalconnects.backend.service;
+
+import java.util.List;
+
+import com.rentalconnects.backend.dto.PopularPropertyDTO;
+
+/**
+ * Interface for property view tracking and popularity rankings.
+ */
+public interface PropertyViewService {
+
+    /**
+     * Records one view of a property. Views are buffered in memory and flushed periodically.
+     *
+     * @param propertyId The ID of the viewed property.
+     */
+    void recordView(String propertyId);
+
+    /**
+     * Writes buffered view counts to MongoDB.
+     */
+    void flush();
+
+    /**
+     * Ranks available properties by views over the last days.
+     *
+     * @param days  Length of the ranking window in days.
+     * @param limit Maximum number of properties to return.
+     * @return The most viewed properties, most viewed first.
+     */
+    List<PopularPropertyDTO> getPopularProperties(int days, int limit);
+}
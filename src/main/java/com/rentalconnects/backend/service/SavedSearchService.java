@@ -0,0 +1,36 @@
+package com.rentalconnects.backend.service;
+
+import java.util.List;
+
+import com.rentalconnects.backend.model.SavedSearch;
+
+/**
+ * Interface for managing tenants' saved property searches.
+ */
+public interface SavedSearchService {
+
+    /**
+     * Saves a search for a tenant and starts matching new listings against it.
+     *
+     * @param tenantId    The ID of the tenant.
+     * @param savedSearch The search predicates to save.
+     * @return The saved search.
+     */
+    SavedSearch createSavedSearch(String tenantId, SavedSearch savedSearch);
+
+    /**
+     * Retrieves the saved searches owned by a tenant.
+     *
+     * @param tenantId The ID of the tenant.
+     * @return The tenant's saved searches.
+     */
+    List<SavedSearch> getSavedSearches(String tenantId);
+
+    /**
+     * Deletes a saved search owned by a tenant.
+     *
+     * @param id       The ID of the saved search.
+     * @param tenantId The ID of the tenant.
+     */
+    void deleteSavedSearch(String id, String tenantId);
+}
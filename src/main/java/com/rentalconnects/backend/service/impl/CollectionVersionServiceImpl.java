@@ -0,0 +1,90 @@
+package com.rentalconnects.backend.service.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.rentalconnects.backend.event.ExchangeRatesChangedEvent;
+import com.rentalconnects.backend.event.PropertiesImportedEvent;
+import com.rentalconnects.backend.event.PropertyChangedEvent;
+import com.rentalconnects.backend.model.CollectionVersion;
+import com.rentalconnects.backend.service.CollectionVersionService;
+
+/**
+ * MongoDB-backed collection versions, shared by every application instance. The properties
+ * counter is bumped after each property write and after bulk rent re-normalization.
+ *
+ * Reads are served from memory so list requests cost no database round-trip: versions are
+ * loaded at startup, follow this instance's own bumps immediately, and pick up bumps made by
+ * other instances on a periodic refresh, so a remote change can go unnoticed for at most
+ * one refresh interval.
+ */
+@Service
+public class CollectionVersionServiceImpl implements CollectionVersionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollectionVersionServiceImpl.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ConcurrentHashMap<String, Long> versions = new ConcurrentHashMap<>();
+
+    public CollectionVersionServiceImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public long getVersion(String name) {
+        return versions.computeIfAbsent(name, this::readVersion);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        getVersion(PROPERTIES);
+    }
+
+    @Scheduled(fixedDelayString = "${collection-versions.refresh-interval-ms:5000}")
+    public void refresh() {
+        for (String name : versions.keySet()) {
+            try {
+                versions.merge(name, readVersion(name), Math::max);
+            } catch (RuntimeException e) {
+                logger.warn("[CollectionVersionServiceImpl] Failed to refresh version of {}: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private long readVersion(String name) {
+        CollectionVersion version = mongoTemplate.findById(name, CollectionVersion.class);
+        return version != null ? version.getVersion() : 0;
+    }
+
+    @Override
+    public long bump(String name) {
+        CollectionVersion version = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(name)),
+                new Update().inc("version", 1),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                CollectionVersion.class);
+        // Versions only grow, so a concurrent refresh never moves the cached value backwards.
+        versions.merge(name, version.getVersion(), Math::max);
+        return version.getVersion();
+    }
+
+    @EventListener({PropertyChangedEvent.class, PropertiesImportedEvent.class, ExchangeRatesChangedEvent.class})
+    public void onPropertiesChanged() {
+        try {
+            bump(PROPERTIES);
+        } catch (RuntimeException e) {
+            logger.error("[CollectionVersionServiceImpl] Failed to bump properties collection version: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.rentalconnects.backend.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.rentalconnects.backend.event.ExchangeRatesChangedEvent;
+import com.rentalconnects.backend.model.ExchangeRate;
+import com.rentalconnects.backend.repository.ExchangeRateRepository;
+import com.rentalconnects.backend.repository.PropertyRepository;
+import com.rentalconnects.backend.service.ExchangeRateService;
+
+/**
+ * Exchange-rate table backed by a bundled rate file, overridden by rates stored through the
+ * admin endpoint. Rates are cached in memory and refreshed periodically; whenever a rate
+ * changes, the stored rentBase of every property in that currency is recomputed server-side.
+ */
+@Service
+public class ExchangeRateServiceImpl implements ExchangeRateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExchangeRateServiceImpl.class);
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final PropertyRepository propertyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String baseCurrency;
+    private final Resource ratesFile;
+
+    private volatile Map<String, Double> rates;
+
+    public ExchangeRateServiceImpl(ExchangeRateRepository exchangeRateRepository,
+                                   PropertyRepository propertyRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${currency.base:GHS}") String baseCurrency,
+                                   @Value("${currency.rates-file:classpath:currency/exchange-rates.csv}") Resource ratesFile) {
+        this.exchangeRateRepository = exchangeRateRepository;
+        this.propertyRepository = propertyRepository;
+        this.eventPublisher = eventPublisher;
+        this.baseCurrency = baseCurrency.toUpperCase(Locale.ROOT);
+        this.ratesFile = ratesFile;
+        this.rates = loadFileRates();
+        logger.info("[ExchangeRateServiceImpl] Loaded {} rates from {}", rates.size(), ratesFile.getDescription());
+    }
+
+    @Override
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    @Override
+    public Map<String, Double> getRates() {
+        return rates;
+    }
+
+    @Override
+    public Double toBase(Double amount, String currency) {
+        if (amount == null) {
+            return null;
+        }
+        Double rate = rates.get(currency != null ? currency.toUpperCase(Locale.ROOT) : baseCurrency);
+        return rate != null ? amount * rate : null;
+    }
+
+    @Override
+    public Map<String, Double> updateRates(Map<String, Double> updates) {
+        if (updates == null || updates.isEmpty()) {
+            throw new IllegalArgumentException("At least one rate is required");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, ExchangeRate> overrides = new HashMap<>();
+        updates.forEach((code, rate) -> {
+            String currency = code == null ? "" : code.trim().toUpperCase(Locale.ROOT);
+            if (!currency.matches("[A-Z]{3}")) {
+                throw new IllegalArgumentException("Invalid currency code: " + code);
+            }
+            if (rate == null || !(rate > 0) || rate.isInfinite()) {
+                throw new IllegalArgumentException("Rate for " + currency + " must be a positive number");
+            }
+            if (currency.equals(baseCurrency) && rate != 1.0) {
+                throw new IllegalArgumentException("The base currency " + baseCurrency + " must have a rate of 1");
+            }
+            overrides.put(currency, new ExchangeRate(currency, rate, now));
+        });
+        exchangeRateRepository.saveAll(overrides.values());
+        logger.info("[ExchangeRateServiceImpl] Stored rate overrides for {}", overrides.keySet());
+        refreshRates();
+        return rates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshRates();
+        // Backfill properties saved before rent normalization existed.
+        Set<String> backfilled = new TreeSet<>();
+        rates.forEach((currency, rate) -> {
+            long updated = propertyRepository.updateRentBase(currency, currency.equals(baseCurrency), rate, true);
+            if (updated > 0) {
+                backfilled.add(currency);
+                logger.info("[ExchangeRateServiceImpl] Backfilled rentBase for {} {} properties", updated, currency);
+            }
+        });
+        // The in-memory indexes load concurrently and may have read the rows before the backfill.
+        if (!backfilled.isEmpty()) {
+            eventPublisher.publishEvent(new ExchangeRatesChangedEvent(backfilled));
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${currency.refresh-interval-ms:3600000}",
+            initialDelayString = "${currency.refresh-interval-ms:3600000}")
+    public synchronized void refreshRates() {
+        Map<String, Double> refreshed = loadFileRates();
+        try {
+            exchangeRateRepository.findAll().forEach(override -> refreshed.put(override.getCurrency(), override.getRate()));
+        } catch (RuntimeException e) {
+            logger.error("[ExchangeRateServiceImpl] Failed to load rate overrides, using file rates: {}", e.getMessage());
+        }
+        refreshed.put(baseCurrency, 1.0);
+
+        Map<String, Double> previous = rates;
+        Set<String> changed = new TreeSet<>();
+        for (String currency : refreshed.keySet()) {
+            if (!Objects.equals(previous.get(currency), refreshed.get(currency))) {
+                changed.add(currency);
+            }
+        }
+        // Publish the new table before recomputing so concurrent saves already use it.
+        rates = Map.copyOf(refreshed);
+        if (changed.isEmpty()) {
+            return;
+        }
+        for (String currency : changed) {
+            long updated = propertyRepository.updateRentBase(currency, currency.equals(baseCurrency), rates.get(currency), false);
+            logger.info("[ExchangeRateServiceImpl] Rate for {} is now {}; re-normalized {} properties",
+                    currency, rates.get(currency), updated);
+        }
+        eventPublisher.publishEvent(new ExchangeRatesChangedEvent(changed));
+    }
+
+    private Map<String, Double> loadFileRates() {
+        Map<String, Double> loaded = new TreeMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ratesFile.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length != 2) {
+                    logger.warn("[ExchangeRateServiceImpl] Skipping malformed rate line: {}", line);
+                    continue;
+                }
+                loaded.put(parts[0].trim().toUpperCase(Locale.ROOT), Double.parseDouble(parts[1].trim()));
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.error("[ExchangeRateServiceImpl] Failed to load rate file: {}", e.getMessage());
+        }
+        loaded.put(baseCurrency, 1.0);
+        return loaded;
+    }
+}
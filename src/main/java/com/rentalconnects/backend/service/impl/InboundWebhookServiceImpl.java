@@ -0,0 +1,234 @@
+package com.rentalconnects.backend.service.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentalconnects.backend.model.InboundWebhook;
+import com.rentalconnects.backend.service.InboundWebhookService;
+import com.rentalconnects.backend.service.PaystackService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Stores webhook deliveries in the "inbound_webhooks" collection and drains it with a fixed
+ * pool of worker threads, so a webhook request costs one insert however slow processing is.
+ *
+ * Workers claim one due delivery at a time with findAndModify, leasing it for a while so a
+ * delivery held by a crashed instance is picked up again once the lease runs out. Failed
+ * deliveries are retried with exponential backoff and moved to the dead-letter collection
+ * after the last attempt. Idle workers poll; a local enqueue wakes one immediately.
+ *
+ * A worker only records the result of a delivery it still holds, identified by the attempt
+ * number of its claim: once a delivery has been reclaimed, the late worker's result is
+ * dropped. The Paystack callback throws, rather than returns, for a reference that another
+ * delivery started but has not finished, so such a delivery is retried, not marked done.
+ */
+@Service
+public class InboundWebhookServiceImpl implements InboundWebhookService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InboundWebhookServiceImpl.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final PaystackService paystackService;
+    private final ObjectMapper objectMapper;
+    private final int workerThreads;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final long pollIntervalMillis;
+    private final Duration lease;
+    private final ExecutorService workers;
+    private final Semaphore wakeups = new Semaphore(0);
+
+    private volatile boolean running = true;
+
+    public InboundWebhookServiceImpl(MongoTemplate mongoTemplate,
+                                     PaystackService paystackService,
+                                     ObjectMapper objectMapper,
+                                     @Value("${webhooks.worker-threads:4}") int workerThreads,
+                                     @Value("${webhooks.max-attempts:8}") int maxAttempts,
+                                     @Value("${webhooks.backoff-base-ms:2000}") long backoffBaseMillis,
+                                     @Value("${webhooks.backoff-max-ms:3600000}") long backoffMaxMillis,
+                                     @Value("${webhooks.poll-interval-ms:1000}") long pollIntervalMillis,
+                                     @Value("${webhooks.lease-ms:120000}") long leaseMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.paystackService = paystackService;
+        this.objectMapper = objectMapper;
+        this.workerThreads = workerThreads;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofMillis(backoffBaseMillis);
+        this.backoffMax = Duration.ofMillis(backoffMaxMillis);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.workers = Executors.newFixedThreadPool(workerThreads);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWorkers() {
+        for (int i = 0; i < workerThreads; i++) {
+            workers.execute(this::work);
+        }
+        logger.info("[InboundWebhookServiceImpl] Started {} webhook workers", workerThreads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.shutdownNow();
+    }
+
+    @Override
+    public boolean enqueue(String provider, byte[] body) {
+        Map<String, Object> payload;
+        try {
+            payload = objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {});
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Webhook body is not a JSON object", e);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        InboundWebhook webhook = new InboundWebhook();
+        webhook.setProvider(provider);
+        webhook.setDedupKey(dedupKey(provider, payload));
+        webhook.setPayload(payload);
+        webhook.setStatus(InboundWebhook.STATUS_QUEUED);
+        webhook.setNextAttemptAt(now);
+        webhook.setReceivedAt(now);
+        try {
+            mongoTemplate.insert(webhook);
+        } catch (DuplicateKeyException e) {
+            logger.info("[InboundWebhookServiceImpl] Ignoring duplicate {} webhook {}", provider, webhook.getDedupKey());
+            return false;
+        }
+        wakeups.release();
+        return true;
+    }
+
+    /** Provider, event and reference of the delivery, or null when it carries no reference. */
+    private static String dedupKey(String provider, Map<String, Object> payload) {
+        Object data = payload.get("data");
+        Object reference = data instanceof Map<?, ?> map ? map.get("reference") : payload.get("reference");
+        if (reference == null) {
+            return null;
+        }
+        Object event = payload.get("event");
+        return provider + ":" + (event != null ? event : "callback") + ":" + reference;
+    }
+
+    private void work() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                InboundWebhook webhook = claim();
+                if (webhook == null) {
+                    wakeups.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                process(webhook);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // Keep the worker alive through database hiccups; the lease returns the delivery to the queue.
+                logger.error("[InboundWebhookServiceImpl] Webhook worker error: {}", e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    private InboundWebhook claim() {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where("status").is(InboundWebhook.STATUS_QUEUED).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(InboundWebhook.STATUS_PROCESSING).and("leaseUntil").lt(now)))
+                .with(Sort.by("nextAttemptAt"));
+        return mongoTemplate.findAndModify(query,
+                new Update().set("status", InboundWebhook.STATUS_PROCESSING).set("leaseUntil", now.plus(lease)).inc("attempts", 1),
+                FindAndModifyOptions.options().returnNew(true), InboundWebhook.class);
+    }
+
+    private void process(InboundWebhook webhook) {
+        try {
+            if (PROVIDER_PAYSTACK.equals(webhook.getProvider())) {
+                paystackService.processPaystackCallback(webhook.getPayload());
+            } else {
+                throw new IllegalArgumentException("Unknown webhook provider: " + webhook.getProvider());
+            }
+            long updated = mongoTemplate.updateFirst(held(webhook),
+                    new Update().set("status", InboundWebhook.STATUS_DONE).set("completedAt", LocalDateTime.now())
+                            .unset("leaseUntil"),
+                    InboundWebhook.class).getModifiedCount();
+            if (updated == 0) {
+                logger.warn("[InboundWebhookServiceImpl] {} webhook {} was reclaimed before attempt {} finished",
+                        webhook.getProvider(), webhook.getId(), webhook.getAttempts());
+            }
+        } catch (RuntimeException e) {
+            fail(webhook, e);
+        }
+    }
+
+    private void fail(InboundWebhook webhook, RuntimeException error) {
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        message = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        if (webhook.getAttempts() >= maxAttempts) {
+            webhook.setLastError(message);
+            webhook.setLeaseUntil(null);
+            mongoTemplate.save(webhook, InboundWebhook.DEAD_LETTER_COLLECTION);
+            if (mongoTemplate.remove(held(webhook), InboundWebhook.class).getDeletedCount() == 0) {
+                // Reclaimed meanwhile; the delivery lives on in the queue.
+                mongoTemplate.remove(Query.query(Criteria.where("_id").is(webhook.getId())), InboundWebhook.DEAD_LETTER_COLLECTION);
+                return;
+            }
+            logger.error("[InboundWebhookServiceImpl] {} webhook {} dead-lettered after {} attempts: {}",
+                    webhook.getProvider(), webhook.getId(), webhook.getAttempts(), message);
+            return;
+        }
+        Duration backoff = backoffBase.multipliedBy(1L << Math.min(webhook.getAttempts() - 1, 20));
+        if (backoff.compareTo(backoffMax) > 0) {
+            backoff = backoffMax;
+        }
+        if (mongoTemplate.updateFirst(held(webhook),
+                new Update().set("status", InboundWebhook.STATUS_QUEUED).set("nextAttemptAt", LocalDateTime.now().plus(backoff))
+                        .set("lastError", message).unset("leaseUntil"),
+                InboundWebhook.class).getModifiedCount() == 0) {
+            return;
+        }
+        logger.warn("[InboundWebhookServiceImpl] {} webhook {} failed (attempt {}), retrying in {}s: {}",
+                webhook.getProvider(), webhook.getId(), webhook.getAttempts(), backoff.toSeconds(), message);
+    }
+
+    /** Matches the delivery while it is still held by the claim that returned it. */
+    private static Query held(InboundWebhook webhook) {
+        return Query.query(Criteria.where("_id").is(webhook.getId())
+                .and("status").is(InboundWebhook.STATUS_PROCESSING).and("attempts").is(webhook.getAttempts()));
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
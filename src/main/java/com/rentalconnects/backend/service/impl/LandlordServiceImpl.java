@@ -5,13 +5,16 @@ import java.util.List;
 import java.util.Map;
 
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.rentalconnects.backend.event.PropertyChangedEvent;
 import com.rentalconnects.backend.model.MaintenanceRequest;
 import com.rentalconnects.backend.model.Property;
 import com.rentalconnects.backend.repository.MaintenanceRequestRepository;
 import com.rentalconnects.backend.repository.PropertyRepository;
 import com.rentalconnects.backend.service.DashboardService; // Added import
+import com.rentalconnects.backend.service.ExchangeRateService;
 import com.rentalconnects.backend.service.LandlordService;  // Added import
 
 /**
@@ -25,6 +28,8 @@ public class LandlordServiceImpl implements LandlordService {
     private final PropertyRepository propertyRepository;
     private final MaintenanceRequestRepository maintenanceRequestRepository;
     private final DashboardService dashboardService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExchangeRateService exchangeRateService;
 
     /**
      * Constructor for LandlordServiceImpl with dependency injection.
@@ -32,14 +37,20 @@ public class LandlordServiceImpl implements LandlordService {
      * @param propertyRepository          Repository for property data.
      * @param maintenanceRequestRepository Repository for maintenance request data.
      * @param dashboardService            Service for generating dashboard data.
+     * @param eventPublisher              Publisher for property change events.
+     * @param exchangeRateService         Service for normalizing rents into the base currency.
      */
   
     public LandlordServiceImpl(PropertyRepository propertyRepository,
                                MaintenanceRequestRepository maintenanceRequestRepository,
-                               DashboardService dashboardService) {
+                               DashboardService dashboardService,
+                               ApplicationEventPublisher eventPublisher,
+                               ExchangeRateService exchangeRateService) {
         this.propertyRepository = propertyRepository;
         this.maintenanceRequestRepository = maintenanceRequestRepository;
         this.dashboardService = dashboardService;
+        this.eventPublisher = eventPublisher;
+        this.exchangeRateService = exchangeRateService;
     }
 
     /**
@@ -105,7 +116,10 @@ public class LandlordServiceImpl implements LandlordService {
      */
     @Override
     public Property createProperty(Property property) {
-        return propertyRepository.save(property);
+        property.setRentBase(exchangeRateService.toBase(property.getRent(), property.getCurrency()));
+        Property savedProperty = propertyRepository.save(property);
+        eventPublisher.publishEvent(PropertyChangedEvent.created(savedProperty));
+        return savedProperty;
     }
 
     /**
@@ -116,7 +130,14 @@ public class LandlordServiceImpl implements LandlordService {
      */
     @Override
     public Property updateProperty(Property property) {
-        return propertyRepository.save(property);
+        Property previous = property.getId() != null ? propertyRepository.findById(property.getId()).orElse(null) : null;
+        if (previous != null) {
+            property.setCreatedAt(previous.getCreatedAt());
+        }
+        property.setRentBase(exchangeRateService.toBase(property.getRent(), property.getCurrency()));
+        Property updatedProperty = propertyRepository.save(property);
+        eventPublisher.publishEvent(PropertyChangedEvent.updated(updatedProperty, previous));
+        return updatedProperty;
     }
 
     /**
@@ -126,6 +147,8 @@ public class LandlordServiceImpl implements LandlordService {
      */
     @Override
     public void deleteProperty(String propertyId) {
+        Property previous = propertyRepository.findById(propertyId).orElse(null);
         propertyRepository.deleteById(propertyId);
+        eventPublisher.publishEvent(PropertyChangedEvent.deleted(propertyId, previous));
     }
 }
\ No newline at end of file
@@ -2,30 +2,91 @@ package com.rentalconnects.backend.service.impl;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import com.rentalconnects.backend.dto.LeaseDTO;
+import com.rentalconnects.backend.event.LeaseStatusesChangedEvent;
 import com.rentalconnects.backend.model.Lease;
+import com.rentalconnects.backend.model.Notification;
+import com.rentalconnects.backend.model.Property;
 import com.rentalconnects.backend.model.User;
 import com.rentalconnects.backend.repository.LeaseRepository;
 import com.rentalconnects.backend.repository.PropertyRepository;
+import com.rentalconnects.backend.repository.UserRepository;
 import com.rentalconnects.backend.service.LeaseService;
-import com.rentalconnects.backend.service.UserService;
+import com.rentalconnects.backend.service.NotificationService;
 
 @Service
 public class LeaseServiceImpl implements LeaseService {
 
+    private static final Logger logger = LoggerFactory.getLogger(LeaseServiceImpl.class);
+
     private final LeaseRepository leaseRepository;
     private final PropertyRepository propertyRepository;
-    private final UserService userService;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
 
-    public LeaseServiceImpl(LeaseRepository leaseRepository, PropertyRepository propertyRepository, UserService userService) {
+    public LeaseServiceImpl(LeaseRepository leaseRepository, PropertyRepository propertyRepository, UserRepository userRepository,
+                            NotificationService notificationService) {
         this.leaseRepository = leaseRepository;
         this.propertyRepository = propertyRepository;
-        this.userService = userService;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+    }
+
+    /**
+     * Tells the landlord and tenant when leases the lifecycle job moved become active or expire.
+     * Leases that only received their first status, or were moved back to PENDING, are not announced.
+     */
+    @EventListener
+    public void onLeaseStatusesChanged(LeaseStatusesChangedEvent event) {
+        String change = Lease.STATUS_ACTIVE.equals(event.getStatus()) ? " is now active."
+                : Lease.STATUS_EXPIRED.equals(event.getStatus()) ? " has expired." : null;
+        if (change == null) {
+            return;
+        }
+        List<LeaseStatusesChangedEvent.Transition> announced = event.getTransitions().stream()
+                .filter(transition -> transition.getPreviousStatus() != null)
+                .collect(Collectors.toList());
+        if (announced.isEmpty()) {
+            return;
+        }
+        try {
+            Set<String> propertyIds = announced.stream().map(LeaseStatusesChangedEvent.Transition::getPropertyId)
+                    .collect(Collectors.toSet());
+            Map<String, Property> properties = propertyRepository.findTitlesByIdIn(propertyIds).stream()
+                    .collect(Collectors.toMap(Property::getId, Function.identity()));
+            List<Notification> notifications = new ArrayList<>(announced.size() * 2);
+            for (LeaseStatusesChangedEvent.Transition transition : announced) {
+                Property property = properties.get(transition.getPropertyId());
+                String title = property != null && property.getTitle() != null ? property.getTitle() : "your property";
+                Notification landlordNotification = new Notification();
+                landlordNotification.setRecipientId(transition.getLandlordId());
+                landlordNotification.setLandlordId(transition.getLandlordId());
+                landlordNotification.setMessage("Lease for " + title + change);
+                notifications.add(landlordNotification);
+                Notification tenantNotification = new Notification();
+                tenantNotification.setRecipientId(transition.getTenantId());
+                tenantNotification.setTenantId(transition.getTenantId());
+                tenantNotification.setMessage("Your lease for " + title + change);
+                notifications.add(tenantNotification);
+            }
+            notificationService.sendNotifications(notifications);
+        } catch (RuntimeException e) {
+            // The statuses are already saved; failed notices must not fail the lifecycle run.
+            logger.error("[LeaseServiceImpl] Failed to send status notices for {} leases: {}", announced.size(), e.getMessage());
+        }
     }
 
     @Override
@@ -33,8 +94,7 @@ public class LeaseServiceImpl implements LeaseService {
         if (userId == null || userId.isEmpty()) {
             throw new IllegalArgumentException("Landlord ID must not be null or empty");
         }
-        List<Lease> leases = leaseRepository.findByLandlordId(userId);
-        return leases.stream().map(this::convertToDTO).collect(Collectors.toList());
+        return convertToDTOs(leaseRepository.findByLandlordId(userId));
     }
 
     @Override
@@ -50,8 +110,7 @@ public class LeaseServiceImpl implements LeaseService {
         if (tenantId == null || tenantId.isEmpty()) {
             throw new IllegalArgumentException("Tenant ID must not be null or empty");
         }
-        List<Lease> leases = leaseRepository.findByTenantId(tenantId);
-        return leases.stream().map(this::convertToDTO).collect(Collectors.toList());
+        return convertToDTOs(leaseRepository.findByTenantId(tenantId));
     }
 
     @Override
@@ -59,42 +118,52 @@ public class LeaseServiceImpl implements LeaseService {
         if (userId == null || userId.isEmpty()) {
             throw new IllegalArgumentException("Landlord ID must not be null or empty");
         }
-        List<Lease> leases = leaseRepository.findByLandlordId(userId);
+        LocalDate today = LocalDate.now();
+        return convertToDTOs(leaseRepository.findByLandlordIdAndEndDateInRange(userId, today, today.plusDays(30)));
+    }
+
+    /**
+     * Converts leases to DTOs, loading the referenced properties and tenants with one projected
+     * query each instead of two lookups per lease.
+     */
+    private List<LeaseDTO> convertToDTOs(List<Lease> leases) {
+        if (leases.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<String> propertyIds = new HashSet<>();
+        Set<String> tenantIds = new HashSet<>();
+        for (Lease lease : leases) {
+            if (lease.getPropertyId() != null) {
+                propertyIds.add(lease.getPropertyId());
+            }
+            if (lease.getTenantId() != null) {
+                tenantIds.add(lease.getTenantId());
+            }
+        }
+        Map<String, Property> properties = propertyRepository.findTitlesByIdIn(propertyIds).stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+        Map<String, User> tenants = userRepository.findNamesByIdIn(tenantIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
         return leases.stream()
-                .filter(lease -> {
-                    if (lease.getEndDate() == null) return false;
-                    long daysRemaining = ChronoUnit.DAYS.between(LocalDate.now(), lease.getEndDate());
-                    return daysRemaining >= 0 && daysRemaining <= 30;
-                })
-                .map(this::convertToDTO)
+                .map(lease -> convertToDTO(lease, properties.get(lease.getPropertyId()), tenants.get(lease.getTenantId())))
                 .collect(Collectors.toList());
     }
 
-    private LeaseDTO convertToDTO(Lease lease) {
+    private LeaseDTO convertToDTO(Lease lease, Property property, User tenant) {
         LeaseDTO dto = new LeaseDTO();
         dto.setId(lease.getId());
         dto.setTenantId(lease.getTenantId());
         dto.setLandlordId(lease.getLandlordId());
         dto.setPropertyId(lease.getPropertyId());
 
-        // Fetch property details
-        propertyRepository.findById(lease.getPropertyId())
-                .ifPresent(property -> {
-                    dto.setProperty(property.getTitle());
-                    dto.setPropertyAddress(property.getAddress() != null ? property.getAddress() : property.getTitle());
-                });
-
-        // Fetch tenant name
-        String tenantName = lease.getTenantId();
-        try {
-            User tenant = userService.getUserById(lease.getTenantId())
-                                     .orElse(null); // Unwrap Optional, fallback to null
-            tenantName = tenant != null && tenant.getFullName() != null ? tenant.getFullName() : tenantName;
-        } catch (IllegalArgumentException e) {
-            System.err.println("Tenant not found for ID: " + lease.getTenantId());
+        // Property details
+        if (property != null) {
+            dto.setProperty(property.getTitle());
+            dto.setPropertyAddress(property.getAddress() != null ? property.getAddress() : property.getTitle());
         }
-        dto.setTenant(tenantName);
 
+        // Tenant name, falling back to the tenant ID
+        dto.setTenant(tenant != null && tenant.getFullName() != null ? tenant.getFullName() : lease.getTenantId());
         // Calculate days remaining
         long daysRemaining = 0L;
         if (lease.getEndDate() != null) {
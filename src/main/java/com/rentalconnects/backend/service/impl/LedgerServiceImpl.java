@@ -0,0 +1,377 @@
+package com.rentalconnects.backend.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.rentalconnects.backend.model.Lease;
+import com.rentalconnects.backend.model.LeaseBalance;
+import com.rentalconnects.backend.model.LedgerEntry;
+import com.rentalconnects.backend.model.Payment;
+import com.rentalconnects.backend.repository.LeaseBalanceRepository;
+import com.rentalconnects.backend.repository.LeaseRepository;
+import com.rentalconnects.backend.repository.LedgerEntryRepository;
+import com.rentalconnects.backend.service.LedgerService;
+
+/**
+ * Appends ledger entries in three bulk steps: the entries are inserted unapplied (a duplicate
+ * reference rejects an event that was already recorded), each is $inc'ed into its lease's
+ * balance while its ID is pushed onto the balance's pendingEntries, and finally the entries
+ * are marked applied and pulled from pendingEntries. The balance update only matches while
+ * the entry is not pending, so an append interrupted after the $inc is finished, not
+ * repeated, by the scheduled recovery.
+ */
+@Service
+public class LedgerServiceImpl implements LedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerServiceImpl.class);
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int RECOVERY_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LeaseBalanceRepository leaseBalanceRepository;
+    private final LeaseRepository leaseRepository;
+    private final Duration recoveryGrace;
+
+    public LedgerServiceImpl(MongoTemplate mongoTemplate,
+                             LedgerEntryRepository ledgerEntryRepository,
+                             LeaseBalanceRepository leaseBalanceRepository,
+                             LeaseRepository leaseRepository,
+                             @Value("${ledger.recovery-grace-ms:300000}") long recoveryGraceMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.leaseBalanceRepository = leaseBalanceRepository;
+        this.leaseRepository = leaseRepository;
+        this.recoveryGrace = Duration.ofMillis(recoveryGraceMillis);
+    }
+
+    @Override
+    public void recordCharges(List<Payment> payments) {
+        charge(payments.stream().filter(LedgerServiceImpl::isInvoice).collect(Collectors.toList()), Payment::getAmount, "charge:",
+                payment -> payment.getPeriod() != null ? "Rent for " + payment.getPeriod() : payment.getName());
+    }
+
+    @Override
+    public void recordLateFees(List<Payment> payments) {
+        charge(payments, Payment::getLateFee, "late-fee:",
+                payment -> "Late fee" + (payment.getPeriod() != null ? " for " + payment.getPeriod() : ""));
+    }
+
+    @Override
+    public void recordPaymentReceived(Payment payment) {
+        if (payment.getLeaseId() == null || payment.getAmount() == null) {
+            return;
+        }
+        if (isInvoice(payment)) {
+            restoreCharge(payment);
+        }
+        LedgerEntry entry = entry(payment, LedgerEntry.TYPE_PAYMENT, -payment.getAmount(), "payment:" + payment.getId());
+        entry.setDescription("Payment received");
+        append(List.of(entry));
+    }
+
+    /** An invoice that failed before completing had its charge voided, or never charged. */
+    private void restoreCharge(Payment payment) {
+        Query recorded = new Query(Criteria.where("reference").in("charge:" + payment.getId(), "void:" + payment.getId()));
+        recorded.fields().include("reference");
+        Set<String> references = mongoTemplate.find(recorded, LedgerEntry.class).stream()
+                .map(LedgerEntry::getReference).collect(Collectors.toSet());
+        if (!references.contains("charge:" + payment.getId())) {
+            recordCharges(List.of(payment));
+        } else if (references.contains("void:" + payment.getId())) {
+            LedgerEntry reinstated = entry(payment, LedgerEntry.TYPE_ADJUSTMENT, payment.getAmount(), "reinstate:" + payment.getId());
+            reinstated.setDescription("Charge reinstated");
+            append(List.of(reinstated));
+        }
+    }
+
+    @Override
+    public void recordPaymentVoided(Payment payment) {
+        if (payment.getLeaseId() == null || payment.getAmount() == null || !isInvoice(payment)
+                || Payment.STATUS_COMPLETED.equals(payment.getStatus())) {
+            return;
+        }
+        LedgerEntry entry = entry(payment, LedgerEntry.TYPE_ADJUSTMENT, -payment.getAmount(), "void:" + payment.getId());
+        entry.setDescription("Charge voided");
+        append(List.of(entry));
+    }
+
+    @Override
+    public void recordChargeAmended(Payment payment, Double previousAmount) {
+        if (payment.getLeaseId() == null || payment.getAmount() == null || !isInvoice(payment)) {
+            return;
+        }
+        double difference = payment.getAmount() - (previousAmount != null ? previousAmount : 0);
+        if (difference == 0) {
+            return;
+        }
+        LedgerEntry entry = entry(payment, LedgerEntry.TYPE_ADJUSTMENT, difference, "amend:" + payment.getId() + ":" + UUID.randomUUID());
+        entry.setDescription("Charge amended");
+        append(List.of(entry));
+    }
+
+    @Override
+    public LedgerEntry recordAdjustment(String landlordId, String leaseId, Double amount, String description) {
+        if (amount == null || amount == 0 || amount.isNaN() || amount.isInfinite()) {
+            throw new IllegalArgumentException("Adjustment amount must be a non-zero number");
+        }
+        Lease lease = requireLease(landlordId, leaseId);
+        LedgerEntry entry = new LedgerEntry();
+        entry.setLeaseId(lease.getId());
+        entry.setLandlordId(lease.getLandlordId());
+        entry.setTenantId(lease.getTenantId());
+        entry.setPropertyId(lease.getPropertyId());
+        entry.setType(LedgerEntry.TYPE_ADJUSTMENT);
+        entry.setAmount(amount);
+        entry.setReference("adjustment:" + UUID.randomUUID());
+        entry.setDescription(description != null && !description.trim().isEmpty() ? description.trim() : "Adjustment");
+        append(List.of(entry));
+        return entry;
+    }
+
+    @Override
+    public LeaseBalance getBalance(String landlordId, String leaseId) {
+        Lease lease = requireLease(landlordId, leaseId);
+        return leaseBalanceRepository.findById(leaseId).orElseGet(() -> {
+            LeaseBalance empty = new LeaseBalance();
+            empty.setLeaseId(lease.getId());
+            empty.setLandlordId(lease.getLandlordId());
+            empty.setTenantId(lease.getTenantId());
+            empty.setPropertyId(lease.getPropertyId());
+            return empty;
+        });
+    }
+
+    @Override
+    public List<LedgerEntry> getEntries(String landlordId, String leaseId) {
+        requireLease(landlordId, leaseId);
+        return ledgerEntryRepository.findByLeaseIdOrderByCreatedAtAsc(leaseId);
+    }
+
+    @Override
+    public List<LeaseBalance> getArrears(String landlordId) {
+        return leaseBalanceRepository.findByLandlordIdAndBalanceGreaterThanOrderByBalanceDesc(landlordId, 0);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${ledger.recovery-interval-ms:60000}")
+    public synchronized void recoverPendingEntries() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(recoveryGrace);
+        try {
+            Query unapplied = new Query(Criteria.where("applied").is(false).and("createdAt").lt(cutoff))
+                    .with(Sort.by("createdAt")).limit(RECOVERY_BATCH_SIZE);
+            List<LedgerEntry> entries = mongoTemplate.find(unapplied, LedgerEntry.class);
+            if (!entries.isEmpty()) {
+                apply(entries);
+                logger.info("[LedgerServiceImpl] Recovered {} unapplied ledger entries", entries.size());
+            }
+
+            // Balances whose entries were marked applied but not pulled from pendingEntries.
+            Query stale = new Query(Criteria.where("pendingEntries.0").exists(true).and("updatedAt").lt(cutoff))
+                    .limit(RECOVERY_BATCH_SIZE);
+            stale.fields().include("_id", "pendingEntries");
+            for (LeaseBalance balance : mongoTemplate.find(stale, LeaseBalance.class)) {
+                Query appliedQuery = new Query(Criteria.where("_id").in(balance.getPendingEntries()).and("applied").is(true));
+                appliedQuery.fields().include("_id");
+                List<String> applied = mongoTemplate.find(appliedQuery, LedgerEntry.class).stream()
+                        .map(LedgerEntry::getId).collect(Collectors.toList());
+                if (!applied.isEmpty()) {
+                    mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(balance.getLeaseId())),
+                            new Update().pullAll("pendingEntries", applied.toArray()), LeaseBalance.class);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("[LedgerServiceImpl] Ledger recovery failed: {}", e.getMessage());
+        }
+    }
+
+    private void charge(List<Payment> payments, Function<Payment, Double> amount, String referencePrefix,
+                        Function<Payment, String> description) {
+        List<Payment> charged = payments.stream()
+                .filter(payment -> payment.getLeaseId() != null && amount.apply(payment) != null)
+                .collect(Collectors.toList());
+        if (charged.isEmpty()) {
+            return;
+        }
+        Set<String> leaseIds = charged.stream().map(Payment::getLeaseId).collect(Collectors.toSet());
+        Map<String, Lease> leases = leaseRepository.findAllById(leaseIds).stream()
+                .collect(Collectors.toMap(Lease::getId, Function.identity()));
+        List<LedgerEntry> entries = new ArrayList<>(charged.size());
+        for (Payment payment : charged) {
+            LedgerEntry entry = entry(payment, LedgerEntry.TYPE_CHARGE, amount.apply(payment), referencePrefix + payment.getId());
+            Lease lease = leases.get(payment.getLeaseId());
+            entry.setPropertyId(lease != null ? lease.getPropertyId() : null);
+            entry.setDescription(description.apply(payment));
+            entries.add(entry);
+        }
+        append(entries);
+    }
+
+    /** Rent invoices are charged to the lease; ad-hoc payments only count once they complete. */
+    private static boolean isInvoice(Payment payment) {
+        return payment.getPeriod() != null || payment.getDueDate() != null;
+    }
+
+    private Lease requireLease(String landlordId, String leaseId) {
+        return leaseRepository.findById(leaseId)
+                .filter(lease -> landlordId.equals(lease.getLandlordId()))
+                .orElseThrow(() -> new IllegalArgumentException("Lease not found: " + leaseId));
+    }
+
+    private static LedgerEntry entry(Payment payment, String type, double amount, String reference) {
+        LedgerEntry entry = new LedgerEntry();
+        entry.setLeaseId(payment.getLeaseId());
+        entry.setLandlordId(payment.getLandlordId());
+        entry.setTenantId(payment.getTenantId());
+        entry.setType(type);
+        entry.setAmount(amount);
+        entry.setReference(reference);
+        return entry;
+    }
+
+    /**
+     * Inserts new entries and applies those that were not already recorded.
+     */
+    private void append(List<LedgerEntry> entries) {
+        LocalDateTime now = LocalDateTime.now();
+        for (LedgerEntry entry : entries) {
+            entry.setId(new ObjectId().toHexString());
+            entry.setApplied(false);
+            entry.setCreatedAt(now);
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LedgerEntry.class);
+        bulkOps.insert(entries);
+        Set<Integer> rejected = new HashSet<>();
+        long failed = 0;
+        try {
+            bulkOps.execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> rejected.add(error.getIndex()));
+            failed = e.getErrors().stream().filter(error -> error.getCode() != DUPLICATE_KEY).count();
+        }
+        List<LedgerEntry> inserted = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            if (!rejected.contains(i)) {
+                inserted.add(entries.get(i));
+            }
+        }
+        apply(inserted);
+        if (failed > 0) {
+            throw new RuntimeException("Failed to record " + failed + " ledger entries");
+        }
+    }
+
+    /**
+     * Adds entries to their balances and marks them applied. Entries whose balance update
+     * fails stay unapplied for {@link #recoverPendingEntries()}.
+     */
+    private void apply(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations balanceOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LeaseBalance.class);
+        for (LedgerEntry entry : entries) {
+            balanceOps.upsert(
+                    Query.query(Criteria.where("_id").is(entry.getLeaseId()).and("pendingEntries").ne(entry.getId())),
+                    balanceUpdate(entry, now));
+        }
+        Set<Integer> failed = new HashSet<>();
+        try {
+            balanceOps.execute();
+        } catch (BulkOperationException e) {
+            List<Integer> duplicates = new ArrayList<>();
+            e.getErrors().forEach(error -> (error.getCode() == DUPLICATE_KEY ? duplicates : failed).add(error.getIndex()));
+            // A duplicate key either means the entry is already pending on the balance, or that
+            // a concurrent upsert created the balance first, in which case the entry was not added.
+            if (!duplicates.isEmpty()) {
+                Set<String> pending = pendingEntryIds(duplicates.stream().map(entries::get).collect(Collectors.toList()));
+                duplicates.stream().filter(i -> !pending.contains(entries.get(i).getId())).forEach(failed::add);
+            }
+        }
+
+        Map<String, List<String>> appliedByLease = new LinkedHashMap<>();
+        List<String> appliedIds = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            if (!failed.contains(i)) {
+                LedgerEntry entry = entries.get(i);
+                appliedIds.add(entry.getId());
+                appliedByLease.computeIfAbsent(entry.getLeaseId(), id -> new ArrayList<>()).add(entry.getId());
+            }
+        }
+        if (!failed.isEmpty()) {
+            logger.warn("[LedgerServiceImpl] {} ledger entries left unapplied for recovery", failed.size());
+        }
+        if (appliedIds.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(appliedIds)),
+                Update.update("applied", true), LedgerEntry.class);
+        BulkOperations pullOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LeaseBalance.class);
+        appliedByLease.forEach((leaseId, ids) -> pullOps.updateOne(Query.query(Criteria.where("_id").is(leaseId)),
+                new Update().pullAll("pendingEntries", ids.toArray())));
+        pullOps.execute();
+    }
+
+    /** IDs of the given entries that are pending on their balances. */
+    private Set<String> pendingEntryIds(List<LedgerEntry> entries) {
+        Query query = new Query(Criteria.where("_id").in(entries.stream().map(LedgerEntry::getLeaseId).distinct().collect(Collectors.toList())));
+        query.fields().include("pendingEntries");
+        Set<String> pending = new HashSet<>();
+        mongoTemplate.find(query, LeaseBalance.class).forEach(balance -> {
+            if (balance.getPendingEntries() != null) {
+                pending.addAll(balance.getPendingEntries());
+            }
+        });
+        pending.retainAll(entries.stream().map(LedgerEntry::getId).collect(Collectors.toSet()));
+        return pending;
+    }
+
+    private static Update balanceUpdate(LedgerEntry entry, LocalDateTime now) {
+        double amount = entry.getAmount();
+        Update update = new Update()
+                .inc("balance", amount)
+                .push("pendingEntries", entry.getId())
+                .max("lastEntryAt", entry.getCreatedAt())
+                .set("updatedAt", now);
+        switch (entry.getType()) {
+            case LedgerEntry.TYPE_CHARGE -> update.inc("totalCharged", amount);
+            case LedgerEntry.TYPE_PAYMENT -> update.inc("totalPaid", -amount);
+            default -> update.inc("totalAdjusted", amount);
+        }
+        if (entry.getLandlordId() != null) {
+            update.set("landlordId", entry.getLandlordId());
+        }
+        if (entry.getTenantId() != null) {
+            update.set("tenantId", entry.getTenantId());
+        }
+        if (entry.getPropertyId() != null) {
+            update.set("propertyId", entry.getPropertyId());
+        }
+        return update;
+    }
+}
@@ -0,0 +1,81 @@
+package com.rentalconnects.backend.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Component;
+
+import com.rentalconnects.backend.service.Geocoder;
+
+/**
+ * Stand-in geocoder that resolves addresses against a local gazetteer of known
+ * place names. The most specific (longest) place name found in the address wins,
+ * so "East Legon, Accra" resolves to East Legon rather than Accra.
+ */
+@Component
+public class LocalGazetteerGeocoder implements Geocoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalGazetteerGeocoder.class);
+
+    private final List<Place> places;
+
+    public LocalGazetteerGeocoder(@Value("${geocoding.gazetteer:classpath:geocoding/gazetteer.csv}") Resource gazetteer) {
+        this.places = loadPlaces(gazetteer);
+        logger.info("[LocalGazetteerGeocoder] Loaded {} places", places.size());
+    }
+
+    @Override
+    public Optional<GeoJsonPoint> geocode(String address) {
+        if (address == null || address.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        String normalized = " " + normalize(address) + " ";
+        for (Place place : places) {
+            if (normalized.contains(" " + place.name() + " ")) {
+                return Optional.of(new GeoJsonPoint(place.longitude(), place.latitude()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static List<Place> loadPlaces(Resource gazetteer) {
+        List<Place> loaded = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(gazetteer.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length != 3) {
+                    logger.warn("[LocalGazetteerGeocoder] Skipping malformed gazetteer line: {}", line);
+                    continue;
+                }
+                loaded.add(new Place(normalize(parts[0]), Double.parseDouble(parts[1].trim()), Double.parseDouble(parts[2].trim())));
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.error("[LocalGazetteerGeocoder] Failed to load gazetteer: {}", e.getMessage());
+        }
+        loaded.sort(Comparator.comparingInt((Place place) -> place.name().length()).reversed());
+        return List.copyOf(loaded);
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", " ").trim();
+    }
+
+    private record Place(String name, double latitude, double longitude) {}
+}
@@ -86,6 +86,27 @@ public class NotificationServiceImpl implements NotificationService {
         return savedNotification;
     }
 
+    /**
+     * Sends a batch of notifications, saving them in a single write.
+     *
+     * @param notifications The Notification objects to send.
+     * @return The saved Notification objects.
+     */
+    @Override
+    public List<Notification> sendNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return notifications;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Notification notification : notifications) {
+            notification.setCreatedAt(now);
+            notification.setIsRead(false);
+        }
+        List<Notification> savedNotifications = notificationRepository.saveAll(notifications);
+        logger.info("Saved {} notifications", savedNotifications.size());
+        return savedNotifications;
+    }
+
     /**
      * Updates the status of a notification (e.g., mark as read/unread).
      *
@@ -3,6 +3,7 @@ package com.rentalconnects.backend.service.impl;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -15,6 +16,7 @@ import com.rentalconnects.backend.model.Lease;
 import com.rentalconnects.backend.model.Payment;
 import com.rentalconnects.backend.repository.LeaseRepository;
 import com.rentalconnects.backend.repository.PaymentRepository;
+import com.rentalconnects.backend.service.LedgerService;
 import com.rentalconnects.backend.service.PaymentService;
 
 /**
@@ -27,16 +29,20 @@ public class PaymentServiceImpl implements PaymentService {
     private static final Logger logger = LoggerFactory.getLogger(PaymentServiceImpl.class);
     private final PaymentRepository paymentRepository;
     private final LeaseRepository leaseRepository;
+    private final LedgerService ledgerService;
 
     /**
      * Constructor that initializes the payment and lease repositories.
      *
      * @param paymentRepository The repository for payment data access.
      * @param leaseRepository   The repository for lease data access.
+     * @param ledgerService     The service recording charges and payments on lease ledgers.
      */
-    public PaymentServiceImpl(PaymentRepository paymentRepository, LeaseRepository leaseRepository) {
+    public PaymentServiceImpl(PaymentRepository paymentRepository, LeaseRepository leaseRepository,
+                              LedgerService ledgerService) {
         this.paymentRepository = paymentRepository;
         this.leaseRepository = leaseRepository;
+        this.ledgerService = ledgerService;
         logger.info("PaymentServiceImpl initialized");
     }
 
@@ -126,6 +132,7 @@ public class PaymentServiceImpl implements PaymentService {
 
         // Save updated payment
         Payment updatedPayment = paymentRepository.save(payment);
+        ledgerService.recordPaymentReceived(updatedPayment);
         logger.info("Payment processed successfully: {}", updatedPayment.getId());
         return updatedPayment;
     }
@@ -168,6 +175,13 @@ public class PaymentServiceImpl implements PaymentService {
 
         // Save payment to repository
         Payment createdPayment = paymentRepository.save(payment);
+        // Only invoices are charged. One recorded as failed owes nothing; a retry that completes it charges it then.
+        if (!Payment.STATUS_FAILED.equals(createdPayment.getStatus())) {
+            ledgerService.recordCharges(List.of(createdPayment));
+        }
+        if (Payment.STATUS_COMPLETED.equals(createdPayment.getStatus())) {
+            ledgerService.recordPaymentReceived(createdPayment);
+        }
         logger.info("Payment created successfully with ID: {}", createdPayment.getId());
         return createdPayment;
     }
@@ -177,10 +191,15 @@ public class PaymentServiceImpl implements PaymentService {
         logger.info("Updating payment with ID: {}", payment.getId());
 
         // Validate payment existence
-        if (payment.getId() == null || !paymentRepository.existsById(payment.getId())) {
+        Payment existing = payment.getId() != null ? paymentRepository.findById(payment.getId()).orElse(null) : null;
+        if (existing == null) {
             logger.error("Payment not found with ID: {}", payment.getId());
             throw new IllegalArgumentException("Payment not found: " + payment.getId());
         }
+        // A payload without a version would otherwise be saved as a new document
+        if (payment.getVersion() == null) {
+            payment.setVersion(existing.getVersion());
+        }
 
         // Validate required fields
         if (payment.getTenantId() == null || payment.getLandlordId() == null || payment.getLeaseId() == null) {
@@ -189,6 +208,26 @@ public class PaymentServiceImpl implements PaymentService {
             throw new IllegalArgumentException("Tenant ID, landlord ID, and lease ID are required");
         }
 
+        // Whether the payment is a charged invoice is fixed when it is created
+        payment.setPeriod(existing.getPeriod());
+        payment.setDueDate(existing.getDueDate());
+
+        // The ledger follows an open payment to COMPLETED or FAILED and a failed one retried to
+        // COMPLETED; other changes to a settled payment's status or amount would leave it wrong.
+        boolean statusChanged = !Objects.equals(existing.getStatus(), payment.getStatus());
+        boolean amountChanged = !Objects.equals(existing.getAmount(), payment.getAmount());
+        boolean wasOpen = !isSettled(existing.getStatus());
+        boolean retried = Payment.STATUS_FAILED.equals(existing.getStatus()) && Payment.STATUS_COMPLETED.equals(payment.getStatus());
+        if (statusChanged && !wasOpen && !retried) {
+            logger.error("Invalid status change for payment {}: {} to {}", payment.getId(), existing.getStatus(), payment.getStatus());
+            throw new IllegalArgumentException("Payment status cannot change from " + existing.getStatus() + " to " + payment.getStatus());
+        }
+        if (amountChanged && (!wasOpen || payment.getAmount() == null || payment.getAmount() <= 0)) {
+            logger.error("Invalid amount change for payment {}: {} to {}", payment.getId(), existing.getAmount(), payment.getAmount());
+            throw new IllegalArgumentException(wasOpen ? "Payment amount must be a positive value"
+                    : "The amount of a " + existing.getStatus() + " payment cannot be changed");
+        }
+
         // Set default timestamps
         if (payment.getPaymentDate() == null) {
             payment.setPaymentDate(LocalDateTime.now());
@@ -197,18 +236,32 @@ public class PaymentServiceImpl implements PaymentService {
 
         // Save updated payment
         Payment updatedPayment = paymentRepository.save(payment);
+        if (amountChanged) {
+            ledgerService.recordChargeAmended(updatedPayment, existing.getAmount());
+        }
+        if (statusChanged && Payment.STATUS_COMPLETED.equals(updatedPayment.getStatus())) {
+            ledgerService.recordPaymentReceived(updatedPayment);
+        } else if (statusChanged && Payment.STATUS_FAILED.equals(updatedPayment.getStatus())) {
+            ledgerService.recordPaymentVoided(updatedPayment);
+        }
         logger.info("Payment updated successfully with ID: {}", updatedPayment.getId());
         return updatedPayment;
     }
 
+    private static boolean isSettled(String status) {
+        return Payment.STATUS_COMPLETED.equals(status) || Payment.STATUS_FAILED.equals(status);
+    }
+
     @Override
     public void deletePayment(String paymentId) {
         logger.info("Deleting payment with ID: {}", paymentId);
-        if (!paymentRepository.existsById(paymentId)) {
-            logger.error("Payment not found with ID: {}", paymentId);
-            throw new IllegalArgumentException("Payment not found: " + paymentId);
-        }
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> {
+                    logger.error("Payment not found with ID: {}", paymentId);
+                    return new IllegalArgumentException("Payment not found: " + paymentId);
+                });
         paymentRepository.deleteById(paymentId);
+        ledgerService.recordPaymentVoided(payment);
         logger.info("Payment deleted successfully with ID: {}", paymentId);
     }
 
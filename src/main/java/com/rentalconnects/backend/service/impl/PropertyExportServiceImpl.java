@@ -0,0 +1,135 @@
+package com.rentalconnects.backend.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentalconnects.backend.event.PropertyChangedEvent;
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.model.PropertyTombstone;
+import com.rentalconnects.backend.repository.PropertyRepository;
+import com.rentalconnects.backend.service.PropertyExportService;
+
+/**
+ * NDJSON export over a MongoDB cursor. Each property is serialized straight to the output
+ * stream, which is flushed once per cursor batch, so at most one batch is held in memory.
+ *
+ * Hard deletes leave a {@link PropertyTombstone}. Incremental exports merge the tombstones
+ * deleted since the given time into the property stream in ID order, as
+ * {"id":..,"deleted":true,"deletedAt":..} lines, so resuming after the last ID works the same
+ * for both kinds of line.
+ */
+@Service
+public class PropertyExportServiceImpl implements PropertyExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyExportServiceImpl.class);
+
+    private final PropertyRepository propertyRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectWriter writer;
+    private final ObjectWriter tombstoneWriter;
+    private final int batchSize;
+
+    public PropertyExportServiceImpl(PropertyRepository propertyRepository, MongoTemplate mongoTemplate,
+                                     ObjectMapper objectMapper,
+                                     @Value("${property.export.batch-size:500}") int batchSize) {
+        this.propertyRepository = propertyRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.writer = objectMapper.writerFor(Property.class);
+        this.tombstoneWriter = objectMapper.writer();
+        this.batchSize = batchSize;
+    }
+
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.getType() != PropertyChangedEvent.Type.DELETED) {
+            return;
+        }
+        try {
+            mongoTemplate.save(new PropertyTombstone(event.getPropertyId(), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            logger.error("[PropertyExportServiceImpl] Failed to record tombstone for deleted property {}: {}",
+                    event.getPropertyId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public long exportProperties(LocalDateTime since, String afterId, OutputStream out) {
+        long written = 0;
+        try (Stream<Property> properties = propertyRepository.streamForExport(since, afterId, batchSize);
+             Stream<PropertyTombstone> tombstones = streamTombstones(since, afterId)) {
+            Iterator<Property> propertyIterator = properties.iterator();
+            Iterator<PropertyTombstone> tombstoneIterator = tombstones.iterator();
+            Property property = propertyIterator.hasNext() ? propertyIterator.next() : null;
+            PropertyTombstone tombstone = tombstoneIterator.hasNext() ? tombstoneIterator.next() : null;
+            while (property != null || tombstone != null) {
+                int order = property == null ? 1 : tombstone == null ? -1
+                        : property.getId().compareTo(tombstone.getPropertyId());
+                if (order <= 0) {
+                    out.write(writer.writeValueAsBytes(property));
+                    property = propertyIterator.hasNext() ? propertyIterator.next() : null;
+                    if (order == 0) {
+                        // A live property outranks a stale tombstone for the same ID.
+                        tombstone = tombstoneIterator.hasNext() ? tombstoneIterator.next() : null;
+                    }
+                } else {
+                    out.write(tombstoneWriter.writeValueAsBytes(tombstoneLine(tombstone)));
+                    tombstone = tombstoneIterator.hasNext() ? tombstoneIterator.next() : null;
+                }
+                out.write('\n');
+                if (++written % batchSize == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+            logger.info("[PropertyExportServiceImpl] Exported {} lines (since={}, after={})", written, since, afterId);
+            return written;
+        } catch (IOException e) {
+            // Usually the client disconnecting; it can resume from the last ID it received.
+            logger.warn("[PropertyExportServiceImpl] Export interrupted after {} properties: {}", written, e.getMessage());
+            throw new UncheckedIOException("Failed to write property export", e);
+        } catch (RuntimeException e) {
+            logger.error("[PropertyExportServiceImpl] Export failed after {} properties: {}", written, e.getMessage());
+            throw new RuntimeException("Failed to export properties", e);
+        }
+    }
+
+    /** Tombstones only belong in incremental exports; a full export simply omits deleted listings. */
+    private Stream<PropertyTombstone> streamTombstones(LocalDateTime since, String afterId) {
+        if (since == null) {
+            return Stream.empty();
+        }
+        Criteria criteria = Criteria.where("deletedAt").gte(since);
+        if (afterId != null) {
+            criteria = criteria.and("_id").gt(new ObjectId(afterId));
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, "_id")).cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, PropertyTombstone.class);
+    }
+
+    private static Map<String, Object> tombstoneLine(PropertyTombstone tombstone) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("id", tombstone.getPropertyId());
+        line.put("deleted", true);
+        line.put("deletedAt", tombstone.getDeletedAt());
+        return line;
+    }
+}
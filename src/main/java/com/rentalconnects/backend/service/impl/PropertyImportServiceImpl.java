@@ -0,0 +1,594 @@
+package com.rentalconnects.backend.service.impl;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.model.PropertyImportJob;
+import com.rentalconnects.backend.repository.PropertyImportJobRepository;
+import com.rentalconnects.backend.service.PropertyImportService;
+import com.rentalconnects.backend.service.PropertyService;
+import com.rentalconnects.backend.util.CsvReader;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs bulk imports on a small job pool. Rows are parsed one at a time from the uploaded file,
+ * validated and geocoded through {@link PropertyService}, and collected into batches. Each
+ * batch resizes its images in parallel on a separate pool, is written with one unordered bulk
+ * insert, and then the job document is saved with the batch's per-row results, so progress
+ * can be polled while the import runs.
+ */
+@Service
+public class PropertyImportServiceImpl implements PropertyImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyImportServiceImpl.class);
+
+    private static final String LIST_SEPARATOR = "[;|]";
+
+    private final PropertyService propertyService;
+    private final PropertyImportJobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxRows;
+    private final long maxImageArchiveBytes;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService imageExecutor;
+
+    public PropertyImportServiceImpl(PropertyService propertyService,
+                                     PropertyImportJobRepository jobRepository,
+                                     ObjectMapper objectMapper,
+                                     @Value("${property.import.batch-size:100}") int batchSize,
+                                     @Value("${property.import.max-rows:5000}") int maxRows,
+                                     @Value("${property.import.max-image-archive-bytes:1073741824}") long maxImageArchiveBytes,
+                                     @Value("${property.import.concurrent-jobs:2}") int concurrentJobs,
+                                     @Value("${property.import.image-threads:4}") int imageThreads) {
+        this.propertyService = propertyService;
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.maxImageArchiveBytes = maxImageArchiveBytes;
+        this.jobExecutor = Executors.newFixedThreadPool(concurrentJobs);
+        this.imageExecutor = Executors.newFixedThreadPool(imageThreads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        imageExecutor.shutdownNow();
+    }
+
+    @Override
+    public PropertyImportJob startImport(String landlordId, MultipartFile data, MultipartFile images) {
+        if (landlordId == null) {
+            throw new IllegalArgumentException("Landlord ID cannot be null");
+        }
+        if (data == null || data.isEmpty()) {
+            throw new IllegalArgumentException("An import file is required");
+        }
+        String fileName = data.getOriginalFilename() != null ? data.getOriginalFilename() : "";
+        String lowerName = fileName.toLowerCase(Locale.ROOT);
+        if (!lowerName.endsWith(".csv") && !lowerName.endsWith(".json")) {
+            throw new IllegalArgumentException("Import file must be a .csv or .json file");
+        }
+        boolean hasImages = images != null && !images.isEmpty();
+        if (hasImages && (images.getOriginalFilename() == null
+                || !images.getOriginalFilename().toLowerCase(Locale.ROOT).endsWith(".zip"))) {
+            throw new IllegalArgumentException("Images must be uploaded as a .zip archive");
+        }
+
+        Path workDir = null;
+        try {
+            // The multipart temp files are removed when the request ends, so keep our own copies.
+            workDir = Files.createTempDirectory("property-import-");
+            Path dataFile = workDir.resolve(lowerName.endsWith(".csv") ? "rows.csv" : "rows.json");
+            data.transferTo(dataFile);
+            Path archive = null;
+            if (hasImages) {
+                archive = workDir.resolve("images.zip");
+                images.transferTo(archive);
+            }
+
+            PropertyImportJob job = new PropertyImportJob();
+            job.setLandlordId(landlordId);
+            job.setFileName(fileName);
+            job.setStatus(PropertyImportJob.Status.PENDING);
+            job.setCreatedAt(LocalDateTime.now());
+            PropertyImportJob saved = jobRepository.save(job);
+
+            // The worker loads its own copy of the job, so the one returned here is never mutated.
+            String jobId = saved.getId();
+            Path directory = workDir;
+            Path imageArchive = archive;
+            jobExecutor.execute(() -> runImport(jobId, directory, dataFile, imageArchive));
+            logger.info("[PropertyImportServiceImpl] Queued import job {} for landlord {}", saved.getId(), landlordId);
+            return saved;
+        } catch (IOException | RuntimeException e) {
+            deleteRecursively(workDir);
+            logger.error("[PropertyImportServiceImpl] Error starting import for landlord {}: {}", landlordId, e.getMessage());
+            throw new RuntimeException("Failed to start property import", e);
+        }
+    }
+
+    @Override
+    public Optional<PropertyImportJob> getJob(String jobId, String landlordId) {
+        return jobRepository.findById(jobId).filter(job -> job.getLandlordId().equals(landlordId));
+    }
+
+    private void runImport(String jobId, Path workDir, Path dataFile, Path archive) {
+        PropertyImportJob job;
+        try {
+            job = jobRepository.findById(jobId).orElseThrow(() -> new IllegalArgumentException("Import job not found"));
+            job.setStatus(PropertyImportJob.Status.RUNNING);
+            jobRepository.save(job);
+        } catch (RuntimeException e) {
+            logger.error("[PropertyImportServiceImpl] Failed to start import job {}: {}", jobId, e.getMessage());
+            deleteRecursively(workDir);
+            return;
+        }
+        try {
+            ArchiveImages images = archive != null ? extractImages(archive, workDir.resolve("images")) : new ArchiveImages();
+            List<PendingRow> batch = new ArrayList<>(batchSize);
+            try (RowSource rows = openRows(dataFile)) {
+                Map<String, String> fields;
+                int rowNumber = 0;
+                while ((fields = rows.next()) != null) {
+                    rowNumber++;
+                    if (rowNumber > maxRows) {
+                        job.setError("Only the first " + maxRows + " rows were imported");
+                        break;
+                    }
+                    try {
+                        Property property = propertyService.prepareImportedProperty(toProperty(fields), job.getLandlordId());
+                        List<Path> imagePaths = resolveImages(fields.get("images"), images);
+                        batch.add(new PendingRow(rowNumber, property, imagePaths));
+                    } catch (IllegalArgumentException e) {
+                        recordFailure(job, rowNumber, e.getMessage());
+                    } catch (RuntimeException e) {
+                        recordFailure(job, rowNumber, "Invalid row: " + e.getMessage());
+                    }
+                    if (batch.size() >= batchSize) {
+                        writeBatch(job, batch);
+                        batch.clear();
+                    }
+                }
+            }
+            writeBatch(job, batch);
+            job.setStatus(PropertyImportJob.Status.COMPLETED);
+            logger.info("[PropertyImportServiceImpl] Import job {} completed: {} imported, {} failed",
+                    job.getId(), job.getImportedRows(), job.getFailedRows());
+        } catch (IOException | RuntimeException e) {
+            job.setStatus(PropertyImportJob.Status.FAILED);
+            job.setError(e.getMessage());
+            logger.error("[PropertyImportServiceImpl] Import job {} failed: {}", job.getId(), e.getMessage());
+        } finally {
+            job.setCompletedAt(LocalDateTime.now());
+            try {
+                jobRepository.save(job);
+            } catch (RuntimeException e) {
+                logger.error("[PropertyImportServiceImpl] Failed to save import job {}: {}", job.getId(), e.getMessage());
+            }
+            deleteRecursively(workDir);
+        }
+    }
+
+    /**
+     * Stores the images of a batch in parallel, inserts the rows whose images succeeded and saves the job.
+     */
+    private void writeBatch(PropertyImportJob job, List<PendingRow> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<Void>> uploads = batch.stream()
+                .map(row -> CompletableFuture.runAsync(() -> storeImages(row), imageExecutor))
+                .collect(Collectors.toList());
+        List<PendingRow> ready = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingRow row = batch.get(i);
+            try {
+                uploads.get(i).join();
+                ready.add(row);
+            } catch (RuntimeException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                recordFailure(job, row.rowNumber, "Image processing failed: " + cause.getMessage());
+                propertyService.deleteStoredImages(row.property.getImageUrls());
+            }
+        }
+
+        List<Property> properties = ready.stream().map(row -> row.property).collect(Collectors.toList());
+        Map<Integer, String> failures;
+        try {
+            failures = properties.isEmpty() ? Map.of() : propertyService.insertImportedProperties(properties);
+        } catch (RuntimeException e) {
+            discardUnsaved(job, ready, e);
+            throw e;
+        }
+        for (int i = 0; i < ready.size(); i++) {
+            PendingRow row = ready.get(i);
+            String failure = failures.get(i);
+            if (failure != null) {
+                recordFailure(job, row.rowNumber, failure);
+                propertyService.deleteStoredImages(row.property.getImageUrls());
+            } else {
+                recordImport(job, row);
+            }
+        }
+        job.getRows().sort(Comparator.comparingInt(PropertyImportJob.RowResult::getRow));
+        jobRepository.save(job);
+    }
+
+    /**
+     * After a bulk insert failed outright, records which rows were written anyway and deletes the
+     * stored images of the rest. If that cannot be determined the images are kept, since deleting
+     * them could break listings that were saved.
+     */
+    private void discardUnsaved(PropertyImportJob job, List<PendingRow> ready, RuntimeException error) {
+        Set<String> saved;
+        try {
+            saved = propertyService.recoverImportedProperties(
+                    ready.stream().map(row -> row.property).collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            logger.error("[PropertyImportServiceImpl] Could not check which rows of job {} were saved, keeping their images: {}",
+                    job.getId(), e.getMessage());
+            return;
+        }
+        for (PendingRow row : ready) {
+            if (saved.contains(row.property.getId())) {
+                recordImport(job, row);
+            } else {
+                recordFailure(job, row.rowNumber, "Insert failed: " + error.getMessage());
+                propertyService.deleteStoredImages(row.property.getImageUrls());
+            }
+        }
+        job.getRows().sort(Comparator.comparingInt(PropertyImportJob.RowResult::getRow));
+    }
+
+    private void storeImages(PendingRow row) {
+        List<String> imageUrls = new ArrayList<>(row.imagePaths.size());
+        row.property.setImageUrls(imageUrls);
+        for (Path path : row.imagePaths) {
+            try (InputStream in = Files.newInputStream(path)) {
+                imageUrls.add(propertyService.storeImage(in, path.getFileName().toString()));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to process image " + path.getFileName(), e);
+            }
+        }
+        row.property.setPrimaryImageUrl(imageUrls.isEmpty() ? null : imageUrls.get(0));
+    }
+
+    private static void recordImport(PropertyImportJob job, PendingRow row) {
+        job.getRows().add(new PropertyImportJob.RowResult(row.rowNumber, row.property.getId(), null));
+        job.setImportedRows(job.getImportedRows() + 1);
+        job.setProcessedRows(job.getProcessedRows() + 1);
+    }
+
+    private static void recordFailure(PropertyImportJob job, int rowNumber, String error) {
+        job.getRows().add(new PropertyImportJob.RowResult(rowNumber, null, error));
+        job.setFailedRows(job.getFailedRows() + 1);
+        job.setProcessedRows(job.getProcessedRows() + 1);
+    }
+
+    /**
+     * Maps one row, keyed by lower-case column name, onto a new property. Lists (amenities, images)
+     * are separated by ';' or '|'.
+     */
+    private static Property toProperty(Map<String, String> fields) {
+        Property property = new Property();
+        property.setTitle(text(fields, "title"));
+        property.setDescription(text(fields, "description"));
+        property.setLocation(text(fields, "location"));
+        property.setAddress(text(fields, "address") != null ? text(fields, "address") : property.getLocation());
+        property.setRent(requiredNumber(fields, text(fields, "rent") != null ? "rent" : "price"));
+        property.setCurrency(text(fields, "currency"));
+        property.setBedrooms(requiredInteger(fields, "bedrooms"));
+        property.setBathrooms(requiredInteger(fields, "bathrooms"));
+        property.setSquareFeet(integer(fields, "squarefeet"));
+        property.setBuiltYear(integer(fields, "builtyear"));
+        if (text(fields, "availablefrom") != null) {
+            property.setAvailableFrom(LocalDate.parse(text(fields, "availablefrom")));
+        }
+        if (text(fields, "utilitiesincluded") != null) {
+            property.setUtilitiesIncluded(Boolean.parseBoolean(text(fields, "utilitiesincluded")));
+        }
+        property.setAmenities(list(text(fields, "amenities")));
+        property.setStatus(text(fields, "status"));
+        property.setPropertyType(text(fields, "propertytype"));
+        Double latitude = number(fields, "latitude");
+        Double longitude = number(fields, "longitude");
+        if (latitude != null && longitude != null) {
+            property.setGeoPoint(new GeoJsonPoint(longitude, latitude));
+        }
+        return property;
+    }
+
+    /**
+     * Resolves image names against the archive: a name matches the entry with that path, or
+     * otherwise the only entry with that file name in any directory.
+     */
+    private static List<Path> resolveImages(String names, ArchiveImages images) {
+        List<Path> paths = new ArrayList<>();
+        for (String name : list(names)) {
+            String key = entryKey(name);
+            Path path = images.byPath.get(key);
+            if (path == null && !key.contains("/")) {
+                if (images.ambiguousNames.contains(key)) {
+                    throw new IllegalArgumentException("Several images in the archive are named " + name
+                            + "; refer to it by its path in the archive");
+                }
+                path = images.byName.get(key);
+            }
+            if (path == null) {
+                throw new IllegalArgumentException("Image not found in archive: " + name);
+            }
+            paths.add(path);
+        }
+        return paths;
+    }
+
+    /** Lower-case entry path with '/' separators and no leading "./" or "/". */
+    private static String entryKey(String name) {
+        String key = name.trim().replace('\\', '/').toLowerCase(Locale.ROOT);
+        while (key.startsWith("./") || key.startsWith("/")) {
+            key = key.substring(key.startsWith("/") ? 1 : 2);
+        }
+        return key;
+    }
+
+    /**
+     * Extracts the archive's files into a directory, keyed by lower-case entry path, and by file
+     * name where that is unique. Entries are written under generated names.
+     */
+    private ArchiveImages extractImages(Path archive, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        ArchiveImages images = new ArchiveImages();
+        long totalBytes = 0;
+        byte[] buffer = new byte[8192];
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(archive)))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String name = Paths.get(entry.getName()).getFileName().toString();
+                if (entry.isDirectory() || name.startsWith(".") || entry.getName().startsWith("__MACOSX")) {
+                    continue;
+                }
+                Path target = directory.resolve(UUID.randomUUID().toString());
+                try (OutputStream out = Files.newOutputStream(target)) {
+                    int read;
+                    while ((read = zip.read(buffer)) != -1) {
+                        totalBytes += read;
+                        if (totalBytes > maxImageArchiveBytes) {
+                            throw new IOException("Image archive exceeds " + maxImageArchiveBytes + " bytes uncompressed");
+                        }
+                        out.write(buffer, 0, read);
+                    }
+                }
+                images.add(entryKey(entry.getName()), entryKey(name), target);
+            }
+        }
+        logger.info("[PropertyImportServiceImpl] Extracted {} images", images.byPath.size());
+        return images;
+    }
+
+    private RowSource openRows(Path dataFile) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(dataFile));
+        if (dataFile.getFileName().toString().endsWith(".csv")) {
+            CsvReader csv = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                csv.close();
+                throw new IllegalArgumentException("CSV file is empty");
+            }
+            List<String> columns = header.stream()
+                    .map(column -> column.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toList());
+            return new RowSource() {
+                @Override
+                public Map<String, String> next() throws IOException {
+                    List<String> record;
+                    do {
+                        record = csv.readRecord();
+                    } while (record != null && record.size() == 1 && record.get(0).isBlank());
+                    if (record == null) {
+                        return null;
+                    }
+                    Map<String, String> fields = new HashMap<>();
+                    for (int i = 0; i < columns.size() && i < record.size(); i++) {
+                        fields.put(columns.get(i), record.get(i));
+                    }
+                    return fields;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    csv.close();
+                }
+            };
+        }
+
+        JsonParser parser = objectMapper.getFactory().createParser(in);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IllegalArgumentException("JSON import file must contain an array of properties");
+        }
+        return new RowSource() {
+            @Override
+            public Map<String, String> next() throws IOException {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                JsonNode node = parser.readValueAsTree();
+                Map<String, String> fields = new HashMap<>();
+                Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+                while (entries.hasNext()) {
+                    Map.Entry<String, JsonNode> entry = entries.next();
+                    fields.put(entry.getKey().toLowerCase(Locale.ROOT), text(entry.getValue()));
+                }
+                return fields;
+            }
+
+            @Override
+            public void close() throws IOException {
+                parser.close();
+            }
+        };
+    }
+
+    /** JSON arrays become ';'-separated lists, matching the CSV format. */
+    private static String text(JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isArray()) {
+            return value.asText();
+        }
+        List<String> items = new ArrayList<>();
+        value.forEach(item -> items.add(item.asText()));
+        return String.join(";", items);
+    }
+
+    private static String text(Map<String, String> fields, String column) {
+        String value = fields.get(column);
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    private static List<String> list(String value) {
+        if (value == null) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(value.split(LIST_SEPARATOR))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static Double number(Map<String, String> fields, String column) {
+        String value = text(fields, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + column + ": " + value);
+        }
+    }
+
+    private static Double requiredNumber(Map<String, String> fields, String column) {
+        Double value = number(fields, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return value;
+    }
+
+    private static Integer integer(Map<String, String> fields, String column) {
+        String value = text(fields, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid whole number for " + column + ": " + value);
+        }
+    }
+
+    private static Integer requiredInteger(Map<String, String> fields, String column) {
+        Integer value = integer(fields, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return value;
+    }
+
+    private static void deleteRecursively(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    logger.warn("[PropertyImportServiceImpl] Failed to delete {}: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("[PropertyImportServiceImpl] Failed to clean up {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /** Reads import rows one at a time, keyed by lower-case column name. */
+    private interface RowSource extends Closeable {
+        Map<String, String> next() throws IOException;
+    }
+
+    /** Extracted images by entry path, and by file name for names used by a single entry. */
+    private static final class ArchiveImages {
+
+        private final Map<String, Path> byPath = new HashMap<>();
+        private final Map<String, Path> byName = new HashMap<>();
+        private final Set<String> ambiguousNames = new HashSet<>();
+
+        void add(String path, String name, Path file) {
+            byPath.put(path, file);
+            if (!ambiguousNames.contains(name) && byName.putIfAbsent(name, file) != null) {
+                byName.remove(name);
+                ambiguousNames.add(name);
+            }
+        }
+    }
+
+    private static final class PendingRow {
+
+        private final int rowNumber;
+        private final Property property;
+        private final List<Path> imagePaths;
+
+        PendingRow(int rowNumber, Property property, List<Path> imagePaths) {
+            this.rowNumber = rowNumber;
+            this.property = property;
+            this.imagePaths = imagePaths;
+        }
+    }
+}
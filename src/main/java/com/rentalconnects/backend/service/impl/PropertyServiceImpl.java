@@ -1,25 +1,49 @@
 package com.rentalconnects.backend.service.impl;
 
+import com.rentalconnects.backend.dto.LocationSuggestionDTO;
+import com.rentalconnects.backend.dto.PropertyClusterDTO;
+import com.rentalconnects.backend.dto.PropertyDistanceDTO;
+import com.rentalconnects.backend.dto.PropertyFacetsDTO;
+import com.rentalconnects.backend.dto.PropertySearchRequest;
+import com.rentalconnects.backend.dto.RentEstimateDTO;
+import com.rentalconnects.backend.event.PropertiesImportedEvent;
+import com.rentalconnects.backend.event.PropertyChangedEvent;
 import com.rentalconnects.backend.model.*;
 import com.rentalconnects.backend.repository.*;
+import com.rentalconnects.backend.search.LocationSuggestionIndex;
+import com.rentalconnects.backend.search.PropertySearchIndex;
+import com.rentalconnects.backend.search.RentStatisticsIndex;
+import com.rentalconnects.backend.search.SimilarPropertyIndex;
+import com.rentalconnects.backend.service.ExchangeRateService;
+import com.rentalconnects.backend.service.Geocoder;
 import com.rentalconnects.backend.service.MaintenanceService;
 import com.rentalconnects.backend.service.PropertyService;
+import com.rentalconnects.backend.util.GeoHash;
 import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.geo.GeoResults;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,20 +54,48 @@ public class PropertyServiceImpl implements PropertyService {
     private final ViewingRepository viewingRepository;
     private final RentalApplicationRepository rentalApplicationRepository;
     private final MaintenanceService maintenanceService;
+    private final Geocoder geocoder;
+    private final ExchangeRateService exchangeRateService;
+    private final PropertySearchIndex searchIndex;
+    private final LocationSuggestionIndex locationSuggestionIndex;
+    private final RentStatisticsIndex rentStatisticsIndex;
+    private final SimilarPropertyIndex similarPropertyIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String UPLOAD_DIR = "Uploads/images/";
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final double MAX_SEARCH_RADIUS_KM = 100;
+    private static final int MAX_GEO_RESULTS = 500;
+    private static final int MAX_LOCATION_SUGGESTIONS = 25;
+    private static final int MAX_SIMILAR_PROPERTIES = 20;
     @Value("${image.base-url:http://localhost:8080/images/}")
     private String IMAGE_BASE_URL;
+    @Value("${property.facets.rent-buckets:0,500,1000,2000,5000,10000}")
+    private double[] defaultRentBuckets;
 
     public PropertyServiceImpl(
             PropertyRepository propertyRepository,
             ViewingRepository viewingRepository,
             RentalApplicationRepository rentalApplicationRepository,
-            MaintenanceService maintenanceService) {
+            MaintenanceService maintenanceService,
+            Geocoder geocoder,
+            ExchangeRateService exchangeRateService,
+            PropertySearchIndex searchIndex,
+            LocationSuggestionIndex locationSuggestionIndex,
+            RentStatisticsIndex rentStatisticsIndex,
+            SimilarPropertyIndex similarPropertyIndex,
+            ApplicationEventPublisher eventPublisher) {
         this.propertyRepository = propertyRepository;
         this.viewingRepository = viewingRepository;
         this.rentalApplicationRepository = rentalApplicationRepository;
         this.maintenanceService = maintenanceService;
+        this.geocoder = geocoder;
+        this.exchangeRateService = exchangeRateService;
+        this.searchIndex = searchIndex;
+        this.locationSuggestionIndex = locationSuggestionIndex;
+        this.rentStatisticsIndex = rentStatisticsIndex;
+        this.similarPropertyIndex = similarPropertyIndex;
+        this.eventPublisher = eventPublisher;
         try {
             Path uploadPath = Paths.get(UPLOAD_DIR);
             Files.createDirectories(uploadPath);
@@ -81,6 +133,33 @@ public class PropertyServiceImpl implements PropertyService {
         if (property.getPropertyType() == null || property.getPropertyType().trim().isEmpty()) {
             throw new IllegalArgumentException("Property type is required");
         }
+        if (property.getGeoPoint() != null) {
+            validateCoordinates(property.getGeoPoint().getY(), property.getGeoPoint().getX());
+        }
+    }
+
+    /**
+     * Fills in fields derived from the user-supplied ones before a property is saved.
+     * When no point was supplied, the previous point is kept if the address is unchanged,
+     * otherwise the address is geocoded. Updates keep the original creation date.
+     */
+    private void applyDerivedFields(Property property, Property existingProperty) {
+        if (existingProperty != null) {
+            // Updates arrive as new objects, which auditing would otherwise save without a creation date.
+            property.setCreatedAt(existingProperty.getCreatedAt());
+        }
+        if (property.getGeoPoint() == null) {
+            if (existingProperty != null && existingProperty.getGeoPoint() != null
+                    && Objects.equals(existingProperty.getAddress(), property.getAddress())) {
+                property.setGeoPoint(existingProperty.getGeoPoint());
+            } else {
+                String address = property.getAddress() != null ? property.getAddress() : property.getLocation();
+                geocoder.geocode(address).ifPresent(property::setGeoPoint);
+            }
+        }
+        property.setGeohash(property.getGeoPoint() == null ? null
+                : GeoHash.encode(property.getGeoPoint().getY(), property.getGeoPoint().getX(), GeoHash.STORED_PRECISION));
+        property.setRentBase(exchangeRateService.toBase(property.getRent(), property.getCurrency()));
     }
 
     private List<String> processImages(List<MultipartFile> images, Integer primaryImageIndex) throws IOException {
@@ -93,39 +172,48 @@ public class PropertyServiceImpl implements PropertyService {
             if (image != null && !image.isEmpty()) {
                 String originalFilename = image.getOriginalFilename();
                 if (originalFilename != null && !originalFilename.trim().isEmpty()) {
-                    String sanitizedFilename = UUID.randomUUID() + "_" + originalFilename.replaceAll("[^a-zA-Z0-9.-]", "_");
-                    try {
-                        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                        Thumbnails.of(image.getInputStream())
-                                .size(1024, 1024)
-                                .outputQuality(0.8)
-                                .outputFormat("jpg")
-                                .toOutputStream(outputStream);
-                        byte[] imageData = outputStream.toByteArray();
-
-                        Path filePath = Paths.get(UPLOAD_DIR, sanitizedFilename);
-                        Files.write(filePath, imageData);
-                        if (!System.getProperty("os.name").toLowerCase().contains("win")) {
-                            Files.setPosixFilePermissions(filePath, PosixFilePermissions.fromString("rw-r--r--"));
-                        }
-                        String imageUrl = IMAGE_BASE_URL.endsWith("/") ? IMAGE_BASE_URL + sanitizedFilename : IMAGE_BASE_URL + "/" + sanitizedFilename;
-                        imageUrls.add(imageUrl);
-                        System.out.println("[PropertyServiceImpl] Processed and compressed image: " + sanitizedFilename);
-
-                        if (primaryImageIndex != null && primaryImageIndex.equals(index)) {
-                            System.out.println("[PropertyServiceImpl] Set primary image: " + sanitizedFilename);
-                        }
-                        index++;
-                    } catch (IOException e) {
-                        System.err.println("[PropertyServiceImpl] Error processing image: " + sanitizedFilename + ", Error: " + e.getMessage());
-                        throw new IOException("Failed to process image: " + sanitizedFilename, e);
+                    String imageUrl = storeImage(image.getInputStream(), originalFilename);
+                    imageUrls.add(imageUrl);
+                    if (primaryImageIndex != null && primaryImageIndex.equals(index)) {
+                        System.out.println("[PropertyServiceImpl] Set primary image: " + imageUrl);
                     }
+                    index++;
                 }
             }
         }
         return imageUrls;
     }
 
+    @Override
+    public String storeImage(InputStream data, String originalFilename) throws IOException {
+        String sanitizedFilename = UUID.randomUUID() + "_" + originalFilename.replaceAll("[^a-zA-Z0-9.-]", "_");
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            Thumbnails.of(data)
+                    .size(1024, 1024)
+                    .outputQuality(0.8)
+                    .outputFormat("jpg")
+                    .toOutputStream(outputStream);
+            byte[] imageData = outputStream.toByteArray();
+
+            Path filePath = Paths.get(UPLOAD_DIR, sanitizedFilename);
+            Files.write(filePath, imageData);
+            if (!System.getProperty("os.name").toLowerCase().contains("win")) {
+                Files.setPosixFilePermissions(filePath, PosixFilePermissions.fromString("rw-r--r--"));
+            }
+            System.out.println("[PropertyServiceImpl] Processed and compressed image: " + sanitizedFilename);
+            return IMAGE_BASE_URL.endsWith("/") ? IMAGE_BASE_URL + sanitizedFilename : IMAGE_BASE_URL + "/" + sanitizedFilename;
+        } catch (IOException e) {
+            System.err.println("[PropertyServiceImpl] Error processing image: " + sanitizedFilename + ", Error: " + e.getMessage());
+            throw new IOException("Failed to process image: " + sanitizedFilename, e);
+        }
+    }
+
+    @Override
+    public void deleteStoredImages(List<String> imageUrls) {
+        deleteImages(imageUrls);
+    }
+
     private void deleteImages(List<String> imageUrls) {
         if (imageUrls == null || imageUrls.isEmpty()) {
             return;
@@ -149,7 +237,9 @@ public class PropertyServiceImpl implements PropertyService {
                 throw new IllegalArgumentException("Property cannot be null");
             }
             validateProperty(property);
+            applyDerivedFields(property, null);
             Property savedProperty = propertyRepository.save(property);
+            eventPublisher.publishEvent(PropertyChangedEvent.created(savedProperty));
             System.out.println("[PropertyServiceImpl] Created property with ID: " + savedProperty.getId());
             return savedProperty;
         } catch (IllegalArgumentException e) {
@@ -178,7 +268,9 @@ public class PropertyServiceImpl implements PropertyService {
             property.setImageUrls(imageUrls);
             property.setPrimaryImageUrl(imageUrls.isEmpty() ? null : imageUrls.get(
                     primaryImageIndex != null && primaryImageIndex >= 0 && primaryImageIndex < imageUrls.size() ? primaryImageIndex : 0));
+            applyDerivedFields(property, null);
             Property savedProperty = propertyRepository.save(property);
+            eventPublisher.publishEvent(PropertyChangedEvent.created(savedProperty));
             System.out.println("[PropertyServiceImpl] Created property with ID: " + savedProperty.getId() + " for landlord: " + landlordId);
             return savedProperty;
         } catch (IOException e) {
@@ -204,7 +296,9 @@ public class PropertyServiceImpl implements PropertyService {
             property.setImageUrls(imageUrls);
             property.setPrimaryImageUrl(imageUrls.isEmpty() ? null : imageUrls.get(
                     primaryImageIndex != null && primaryImageIndex >= 0 && primaryImageIndex < imageUrls.size() ? primaryImageIndex : 0));
+            applyDerivedFields(property, null);
             Property savedProperty = propertyRepository.save(property);
+            eventPublisher.publishEvent(PropertyChangedEvent.created(savedProperty));
             System.out.println("[PropertyServiceImpl] Created property with ID: " + savedProperty.getId());
             return savedProperty;
         } catch (IllegalArgumentException e) {
@@ -219,6 +313,53 @@ public class PropertyServiceImpl implements PropertyService {
         }
     }
 
+    @Override
+    public Property prepareImportedProperty(Property property, String landlordId) {
+        if (property == null || landlordId == null) {
+            throw new IllegalArgumentException("Property and landlord ID cannot be null");
+        }
+        validateProperty(property);
+        property.setLandlordId(landlordId);
+        applyDerivedFields(property, null);
+        return property;
+    }
+
+    @Override
+    public Map<Integer, String> insertImportedProperties(List<Property> properties) {
+        try {
+            Map<Integer, String> failures = propertyRepository.insertUnordered(properties);
+            List<Property> inserted = new ArrayList<>(properties.size() - failures.size());
+            for (int i = 0; i < properties.size(); i++) {
+                if (!failures.containsKey(i)) {
+                    inserted.add(properties.get(i));
+                }
+            }
+            if (!inserted.isEmpty()) {
+                eventPublisher.publishEvent(new PropertiesImportedEvent(inserted));
+            }
+            System.out.println("[PropertyServiceImpl] Bulk inserted " + (properties.size() - failures.size())
+                    + " of " + properties.size() + " imported properties");
+            return failures;
+        } catch (RuntimeException e) {
+            System.err.println("[PropertyServiceImpl] Error bulk inserting properties: " + e.getMessage());
+            throw new RuntimeException("Failed to insert imported properties", e);
+        }
+    }
+
+    @Override
+    public Set<String> recoverImportedProperties(List<Property> properties) {
+        List<String> ids = properties.stream().map(Property::getId).filter(Objects::nonNull).collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> saved = propertyRepository.findTitlesByIdIn(ids).stream().map(Property::getId).collect(Collectors.toSet());
+        List<Property> inserted = properties.stream().filter(property -> saved.contains(property.getId())).collect(Collectors.toList());
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(new PropertiesImportedEvent(inserted));
+        }
+        return saved;
+    }
+
     @Override
     public Optional<Property> getPropertyById(String id) {
         try {
@@ -241,6 +382,22 @@ public class PropertyServiceImpl implements PropertyService {
         }
     }
 
+    @Override
+    public Optional<Property> getPropertyVersionStamp(String id) {
+        try {
+            if (id == null || id.trim().isEmpty()) {
+                throw new IllegalArgumentException("Property ID cannot be null or empty");
+            }
+            return Optional.ofNullable(propertyRepository.findVersionStamp(id));
+        } catch (IllegalArgumentException e) {
+            System.err.println("[PropertyServiceImpl] Error retrieving property version: " + e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            System.err.println("[PropertyServiceImpl] Error retrieving property version: " + e.getMessage());
+            throw new RuntimeException("Failed to retrieve property version", e);
+        }
+    }
+
     @Override
     public List<Property> getAllActiveProperties() {
         try {
@@ -330,7 +487,9 @@ public class PropertyServiceImpl implements PropertyService {
             property.setImageUrls(existingImageUrls);
             property.setPrimaryImageUrl(existingImageUrls.isEmpty() ? null : existingImageUrls.get(0));
             property.setLandlordId(landlordId);
+            applyDerivedFields(property, existingProperty);
             Property updatedProperty = propertyRepository.save(property);
+            eventPublisher.publishEvent(PropertyChangedEvent.updated(updatedProperty, existingProperty));
             System.out.println("[PropertyServiceImpl] Updated property with ID: " + updatedProperty.getId());
             return updatedProperty;
         } catch (IOException e) {
@@ -360,7 +519,9 @@ public class PropertyServiceImpl implements PropertyService {
             property.setImageUrls(existingImageUrls);
             property.setPrimaryImageUrl(existingImageUrls.isEmpty() ? null : existingImageUrls.get(
                     primaryImageIndex != null && primaryImageIndex >= 0 && primaryImageIndex < existingImageUrls.size() ? primaryImageIndex : 0));
+            applyDerivedFields(property, existingProperty);
             Property updatedProperty = propertyRepository.save(property);
+            eventPublisher.publishEvent(PropertyChangedEvent.updated(updatedProperty, existingProperty));
             System.out.println("[PropertyServiceImpl] Updated property with ID: " + updatedProperty.getId());
             return updatedProperty;
         } catch (IllegalArgumentException e) {
@@ -398,7 +559,9 @@ public class PropertyServiceImpl implements PropertyService {
             property.setPrimaryImageUrl(existingImageUrls.isEmpty() ? null : existingImageUrls.get(
                     primaryImageIndex != null && primaryImageIndex >= 0 && primaryImageIndex < existingImageUrls.size() ? primaryImageIndex : 0));
             property.setLandlordId(landlordId);
+            applyDerivedFields(property, existingProperty);
             Property updatedProperty = propertyRepository.save(property);
+            eventPublisher.publishEvent(PropertyChangedEvent.updated(updatedProperty, existingProperty));
             System.out.println("[PropertyServiceImpl] Updated property with ID: " + updatedProperty.getId());
             return updatedProperty;
         } catch (IllegalArgumentException e) {
@@ -426,6 +589,7 @@ public class PropertyServiceImpl implements PropertyService {
                     .orElseThrow(() -> new IllegalArgumentException("Property not found with ID: " + id));
             deleteImages(property.getImageUrls());
             propertyRepository.deleteById(id);
+            eventPublisher.publishEvent(PropertyChangedEvent.deleted(id, property));
             System.out.println("[PropertyServiceImpl] Deleted property with ID: " + id);
         } catch (IllegalArgumentException e) {
             System.err.println("[PropertyServiceImpl] Error deleting property: " + e.getMessage());
@@ -449,6 +613,7 @@ public class PropertyServiceImpl implements PropertyService {
             }
             deleteImages(property.getImageUrls());
             propertyRepository.deleteById(id);
+            eventPublisher.publishEvent(PropertyChangedEvent.deleted(id, property));
             System.out.println("[PropertyServiceImpl] Deleted property with ID: " + id + " for landlord: " + landlordId);
         } catch (IllegalArgumentException e) {
             System.err.println("[PropertyServiceImpl] Error deleting property: " + e.getMessage());
@@ -468,7 +633,7 @@ public class PropertyServiceImpl implements PropertyService {
             if (rent <= 0) {
                 throw new IllegalArgumentException("Rent must be positive");
             }
-            List<Property> properties = propertyRepository.findByRentLessThanEqual(rent);
+            List<Property> properties = propertyRepository.findByRentBaseLessThanEqual(rent);
             System.out.println("[PropertyServiceImpl] Retrieved " + properties.size() + " properties with rent <= " + rent);
             return properties;
         } catch (IllegalArgumentException e) {
@@ -498,6 +663,134 @@ public class PropertyServiceImpl implements PropertyService {
         }
     }
 
+    @Override
+    public Page<Property> searchProperties(String query, PropertySearchRequest filter, int page, int size) {
+        try {
+            if (query == null || query.trim().isEmpty()) {
+                throw new IllegalArgumentException("Search query cannot be null or empty");
+            }
+            if (page < 0 || size <= 0 || size > MAX_SEARCH_PAGE_SIZE) {
+                throw new IllegalArgumentException("Page must be non-negative and size between 1 and " + MAX_SEARCH_PAGE_SIZE);
+            }
+            Page<Property> properties = propertyRepository.searchByText(query.trim(), filter, PageRequest.of(page, size));
+            System.out.println("[PropertyServiceImpl] Full-text search returned " + properties.getNumberOfElements()
+                    + " of " + properties.getTotalElements() + " properties for query: " + query);
+            return properties;
+        } catch (IllegalArgumentException e) {
+            System.err.println("[PropertyServiceImpl] Error searching properties: " + e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            System.err.println("[PropertyServiceImpl] Error searching properties: " + e.getMessage());
+            throw new RuntimeException("Failed to search properties", e);
+        }
+    }
+
+    @Override
+    public List<PropertyDistanceDTO> findPropertiesNear(double latitude, double longitude, double radiusKm, PropertySearchRequest filter, int limit) {
+        try {
+            validateCoordinates(latitude, longitude);
+            if (radiusKm <= 0 || radiusKm > MAX_SEARCH_RADIUS_KM) {
+                throw new IllegalArgumentException("Radius must be greater than 0 and at most " + MAX_SEARCH_RADIUS_KM + " km");
+            }
+            validateGeoLimit(limit);
+            GeoResults<Property> results = propertyRepository.findNear(latitude, longitude, radiusKm, filter, limit);
+            List<PropertyDistanceDTO> properties = results.getContent().stream()
+                    .map(result -> new PropertyDistanceDTO(result.getContent(), result.getDistance().getValue()))
+                    .collect(Collectors.toList());
+            System.out.println("[PropertyServiceImpl] Retrieved " + properties.size() + " properties within " + radiusKm + " km");
+            return properties;
+        } catch (IllegalArgumentException e) {
+            System.err.println("[PropertyServiceImpl] Error searching properties by radius: " + e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            System.err.println("[PropertyServiceImpl] Error searching properties by radius: " + e.getMessage());
+            throw new RuntimeException("Failed to search properties by radius", e);
+        }
+    }
+
+    @Override
+    public List<Property> findPropertiesInBounds(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                                 PropertySearchRequest filter, int limit) {
+        try {
+            validateCoordinates(minLatitude, minLongitude);
+            validateCoordinates(maxLatitude, maxLongitude);
+            if (minLatitude >= maxLatitude || minLongitude >= maxLongitude) {
+                throw new IllegalArgumentException("Bounding box minimums must be less than maximums");
+            }
+            validateGeoLimit(limit);
+            List<Property> properties = propertyRepository.findWithinBox(minLatitude, minLongitude, maxLatitude, maxLongitude, filter, limit);
+            System.out.println("[PropertyServiceImpl] Retrieved " + properties.size() + " properties in bounding box");
+            return properties;
+        } catch (IllegalArgumentException e) {
+            System.err.println("[PropertyServiceImpl] Error searching properties by bounding box: " + e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            System.err.println("[PropertyServiceImpl] Error searching properties by bounding box: " + e.getMessage());
+            throw new RuntimeException("Failed to search properties by bounding box", e);
+        }
+    }
+
+    @Override
+    public List<PropertyClusterDTO> clusterPropertiesInBounds(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                                              int zoom, PropertySearchRequest filter) {
+        try {
+            validateCoordinates(minLatitude, minLongitude);
+            validateCoordinates(maxLatitude, maxLongitude);
+            if (minLatitude >= maxLatitude || minLongitude >= maxLongitude) {
+                throw new IllegalArgumentException("Bounding box minimums must be less than maximums");
+            }
+            if (zoom < 0 || zoom > 22) {
+                throw new IllegalArgumentException("Zoom must be between 0 and 22");
+            }
+            List<PropertyClusterDTO> clusters = propertyRepository.clusterWithinBox(
+                    minLatitude, minLongitude, maxLatitude, maxLongitude, GeoHash.precisionForZoom(zoom), filter);
+            System.out.println("[PropertyServiceImpl] Built " + clusters.size() + " property clusters at zoom " + zoom);
+            return clusters;
+        } catch (IllegalArgumentException e) {
+            System.err.println("[PropertyServiceImpl] Error clustering properties: " + e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            System.err.println("[PropertyServiceImpl] Error clustering properties: " + e.getMessage());
+            throw new RuntimeException("Failed to cluster properties", e);
+        }
+    }
+
+    @Override
+    public PropertyFacetsDTO getFacetCounts(PropertySearchRequest filter, double[] rentBuckets) {
+        try {
+            double[] boundaries = rentBuckets != null && rentBuckets.length > 0 ? rentBuckets : defaultRentBuckets;
+            if (boundaries.length < 2) {
+                throw new IllegalArgumentException("At least two rent bucket boundaries are required");
+            }
+            for (int i = 1; i < boundaries.length; i++) {
+                if (boundaries[i] <= boundaries[i - 1]) {
+                    throw new IllegalArgumentException("Rent bucket boundaries must be strictly ascending");
+                }
+            }
+            PropertyFacetsDTO facets = propertyRepository.facetCounts(filter, boundaries);
+            System.out.println("[PropertyServiceImpl] Computed facet counts over " + facets.getTotal() + " properties");
+            return facets;
+        } catch (IllegalArgumentException e) {
+            System.err.println("[PropertyServiceImpl] Error computing facet counts: " + e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            System.err.println("[PropertyServiceImpl] Error computing facet counts: " + e.getMessage());
+            throw new RuntimeException("Failed to compute facet counts", e);
+        }
+    }
+
+    private void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+    }
+
+    private void validateGeoLimit(int limit) {
+        if (limit <= 0 || limit > MAX_GEO_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_GEO_RESULTS);
+        }
+    }
+
     @Override
     public List<Property> getPropertiesByType(String type) {
         try {
@@ -518,41 +811,110 @@ public class PropertyServiceImpl implements PropertyService {
 
     @Override
     public List<Property> getFilteredProperties(String location, Double priceMin, Double priceMax, String propertyType, Integer bedrooms) {
+        return getFilteredProperties(new PropertySearchRequest(location, priceMin, priceMax, propertyType, bedrooms));
+    }
+
+    @Override
+    public List<Property> getFilteredProperties(PropertySearchRequest filter) {
         try {
-            List<Property> properties = propertyRepository.findAll();
-            if (location != null && !location.trim().isEmpty()) {
-                properties = properties.stream()
-                        .filter(p -> p.getLocation() != null && p.getLocation().toLowerCase().contains(location.toLowerCase()))
-                        .collect(Collectors.toList());
-            }
-            if (priceMin != null) {
-                properties = properties.stream()
-                        .filter(p -> p.getRent() >= priceMin)
-                        .collect(Collectors.toList());
-            }
-            if (priceMax != null) {
-                properties = properties.stream()
-                        .filter(p -> p.getRent() <= priceMax)
-                        .collect(Collectors.toList());
-            }
-            if (propertyType != null && !propertyType.trim().isEmpty()) {
-                properties = properties.stream()
-                        .filter(p -> p.getPropertyType() != null && p.getPropertyType().equalsIgnoreCase(propertyType))
-                        .collect(Collectors.toList());
-            }
-            if (bedrooms != null) {
-                properties = properties.stream()
-                        .filter(p -> Objects.equals(p.getBedrooms(), bedrooms))
-                        .collect(Collectors.toList());
+            validateFilter(filter);
+            List<Property> properties;
+            if (searchIndex.isReady()) {
+                properties = searchIndex.search(filter);
+            } else {
+                properties = propertyRepository.findFiltered(filter);
+                System.out.println("[PropertyServiceImpl] Search index not loaded; filtered properties in MongoDB");
             }
             System.out.println("[PropertyServiceImpl] Retrieved " + properties.size() + " filtered properties");
             return properties;
+        } catch (IllegalArgumentException e) {
+            System.err.println("[PropertyServiceImpl] Error filtering properties: " + e.getMessage());
+            throw e;
         } catch (RuntimeException e) {
             System.err.println("[PropertyServiceImpl] Error filtering properties: " + e.getMessage());
             throw new RuntimeException("Failed to filter properties", e);
         }
     }
 
+    @Override
+    public List<LocationSuggestionDTO> suggestLocations(String prefix, int limit) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new IllegalArgumentException("Prefix cannot be null or empty");
+        }
+        if (limit < 1 || limit > MAX_LOCATION_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LOCATION_SUGGESTIONS);
+        }
+        return locationSuggestionIndex.suggest(prefix, limit);
+    }
+
+    @Override
+    @Cacheable(cacheNames = SimilarPropertyIndex.CACHE_NAME, key = "#propertyId + ':' + #limit", unless = "#result.isEmpty()")
+    public List<Property> getSimilarProperties(String propertyId, int limit) {
+        try {
+            if (limit < 1 || limit > MAX_SIMILAR_PROPERTIES) {
+                throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SIMILAR_PROPERTIES);
+            }
+            Property property = propertyRepository.findById(propertyId)
+                    .orElseThrow(() -> new IllegalArgumentException("Property not found with ID: " + propertyId));
+            if (!similarPropertyIndex.isReady()) {
+                System.out.println("[PropertyServiceImpl] Similar property index not loaded; no recommendations for: " + propertyId);
+                return List.of();
+            }
+            List<String> ids = similarPropertyIndex.nearest(property, limit);
+            Map<String, Property> byId = new HashMap<>();
+            propertyRepository.findAllById(ids).forEach(similar -> byId.put(similar.getId(), similar));
+            List<Property> similarProperties = ids.stream()
+                    .map(byId::get)
+                    .filter(similar -> similar != null && List.of("Active", "Vacant").contains(similar.getStatus()))
+                    .collect(Collectors.toList());
+            System.out.println("[PropertyServiceImpl] Found " + similarProperties.size() + " properties similar to: " + propertyId);
+            return similarProperties;
+        } catch (IllegalArgumentException e) {
+            System.err.println("[PropertyServiceImpl] Error finding similar properties: " + e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            System.err.println("[PropertyServiceImpl] Error finding similar properties: " + e.getMessage());
+            throw new RuntimeException("Failed to find similar properties", e);
+        }
+    }
+
+    @Override
+    public RentEstimateDTO estimateRent(String propertyType, Integer bedrooms, Integer bathrooms,
+                                        Double latitude, Double longitude, String location, String currency) {
+        if (propertyType == null || propertyType.trim().isEmpty()) {
+            throw new IllegalArgumentException("Property type is required");
+        }
+        String targetCurrency = currency != null ? currency.trim().toUpperCase() : exchangeRateService.getBaseCurrency();
+        Double rate = exchangeRateService.toBase(1.0, targetCurrency);
+        if (rate == null) {
+            throw new IllegalArgumentException("Unsupported currency: " + currency);
+        }
+        String geohash = null;
+        if (latitude != null && longitude != null) {
+            validateCoordinates(latitude, longitude);
+            geohash = GeoHash.encode(latitude, longitude, GeoHash.STORED_PRECISION);
+        } else if (location != null && !location.trim().isEmpty()) {
+            geohash = geocoder.geocode(location)
+                    .map(point -> GeoHash.encode(point.getY(), point.getX(), GeoHash.STORED_PRECISION))
+                    .orElse(null);
+        }
+        RentStatisticsIndex.Estimate estimate = rentStatisticsIndex.estimate(propertyType, bedrooms, bathrooms, geohash);
+        if (estimate == null) {
+            return new RentEstimateDTO(targetCurrency, null, null, null, 0, "Not enough comparable listings");
+        }
+        return new RentEstimateDTO(targetCurrency, estimate.low() / rate, estimate.median() / rate, estimate.high() / rate,
+                estimate.sampleSize(), estimate.basis());
+    }
+
+    private void validateFilter(PropertySearchRequest filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getPriceMin() != null && filter.getPriceMax() != null && filter.getPriceMin() > filter.getPriceMax()) {
+            throw new IllegalArgumentException("Minimum price cannot exceed maximum price");
+        }
+    }
+
     @Override
     public void scheduleViewing(Viewing viewing) {
         try {
@@ -625,7 +987,7 @@ public class PropertyServiceImpl implements PropertyService {
                     if (primaryImageUrl != null && !primaryImageUrl.startsWith("http")) {
                         property.setPrimaryImageUrl(IMAGE_BASE_URL.endsWith("/") ? IMAGE_BASE_URL + primaryImageUrl : IMAGE_BASE_URL + "/" + primaryImageUrl);
                     }
-                    propertyRepository.save(property);
+                    eventPublisher.publishEvent(PropertyChangedEvent.updated(propertyRepository.save(property), null));
                 }
             }
             System.out.println("[PropertyServiceImpl] Fixed image URLs for all properties");
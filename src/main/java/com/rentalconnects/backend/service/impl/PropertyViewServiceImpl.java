@@ -0,0 +1,162 @@
+package com.rentalconnects.backend.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.rentalconnects.backend.dto.PopularPropertyDTO;
+import com.rentalconnects.backend.model.Property;
+import com.rentalconnects.backend.model.PropertyViewRollup;
+import com.rentalconnects.backend.model.PropertyViewStats;
+import com.rentalconnects.backend.repository.PropertyRepository;
+import com.rentalconnects.backend.service.PropertyViewService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Buffers property views in per-property LongAdders, so recording a view is a map lookup and
+ * an uncontended increment. A scheduled flush drains the adders into two unordered bulk writes:
+ * $inc upserts on the lifetime totals in property_view_stats and on the current hour's document
+ * in property_view_rollups. Counts from a failed write are retried on the next flush.
+ * Popularity rankings only change when rollups are flushed, so they are cached in memory
+ * and dropped at the end of each flush.
+ */
+@Service
+public class PropertyViewServiceImpl implements PropertyViewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyViewServiceImpl.class);
+
+    private static final DateTimeFormatter HOUR_KEY = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final int MAX_POPULAR_DAYS = 30;
+    private static final int MAX_POPULAR_LIMIT = 50;
+
+    private final MongoTemplate mongoTemplate;
+    private final PropertyRepository propertyRepository;
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, List<PopularPropertyDTO>> popularCache = new ConcurrentHashMap<>();
+
+    // Guarded by the flush monitor.
+    private final Map<String, Long> unflushedTotals = new HashMap<>();
+    private final Map<RollupKey, Long> unflushedRollups = new HashMap<>();
+
+    public PropertyViewServiceImpl(MongoTemplate mongoTemplate, PropertyRepository propertyRepository) {
+        this.mongoTemplate = mongoTemplate;
+        this.propertyRepository = propertyRepository;
+    }
+
+    @Override
+    public void recordView(String propertyId) {
+        counters.computeIfAbsent(propertyId, id -> new LongAdder()).increment();
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${property.views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime hour = now.truncatedTo(ChronoUnit.HOURS);
+        // Adders are never removed, so an increment racing with the drain lands in the next flush.
+        counters.forEach((propertyId, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                unflushedTotals.merge(propertyId, views, Long::sum);
+                unflushedRollups.merge(new RollupKey(propertyId, hour), views, Long::sum);
+            }
+        });
+
+        if (!unflushedTotals.isEmpty()) {
+            try {
+                BulkOperations totals = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PropertyViewStats.class);
+                unflushedTotals.forEach((propertyId, views) -> totals.upsert(
+                        Query.query(Criteria.where("_id").is(propertyId)),
+                        new Update().inc("totalViews", views).max("lastViewedAt", now)));
+                totals.execute();
+                logger.debug("[PropertyViewServiceImpl] Flushed view totals for {} properties", unflushedTotals.size());
+                unflushedTotals.clear();
+            } catch (RuntimeException e) {
+                logger.error("[PropertyViewServiceImpl] Failed to flush view totals for {} properties: {}", unflushedTotals.size(), e.getMessage());
+            }
+        }
+
+        if (!unflushedRollups.isEmpty()) {
+            try {
+                BulkOperations rollups = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PropertyViewRollup.class);
+                unflushedRollups.forEach((key, views) -> rollups.upsert(
+                        Query.query(Criteria.where("_id").is(key.propertyId() + ":" + HOUR_KEY.format(key.hour()))),
+                        new Update().inc("views", views)
+                                .setOnInsert("propertyId", key.propertyId())
+                                .setOnInsert("hour", key.hour())));
+                rollups.execute();
+                unflushedRollups.clear();
+            } catch (RuntimeException e) {
+                logger.error("[PropertyViewServiceImpl] Failed to flush {} hourly view rollups: {}", unflushedRollups.size(), e.getMessage());
+            }
+        }
+        popularCache.clear();
+    }
+
+    @Override
+    public List<PopularPropertyDTO> getPopularProperties(int days, int limit) {
+        if (days < 1 || days > MAX_POPULAR_DAYS) {
+            throw new IllegalArgumentException("Days must be between 1 and " + MAX_POPULAR_DAYS);
+        }
+        if (limit < 1 || limit > MAX_POPULAR_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_POPULAR_LIMIT);
+        }
+        String cacheKey = days + ":" + limit;
+        List<PopularPropertyDTO> cached = popularCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        LocalDateTime since = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusDays(days);
+        // Over-fetch so that listings which are no longer available can be dropped.
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("hour").gte(since)),
+                Aggregation.group("propertyId").sum("views").as("views"),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "views")),
+                Aggregation.limit(limit * 2L));
+        List<Document> ranked = mongoTemplate.aggregate(aggregation,
+                mongoTemplate.getCollectionName(PropertyViewRollup.class), Document.class).getMappedResults();
+
+        List<String> ids = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> ids.add(entry.getString("_id")));
+        Map<String, Property> byId = new HashMap<>();
+        propertyRepository.findAllById(ids).forEach(property -> byId.put(property.getId(), property));
+
+        List<PopularPropertyDTO> popular = new ArrayList<>(limit);
+        for (Document entry : ranked) {
+            Property property = byId.get(entry.getString("_id"));
+            if (property != null && List.of("Active", "Vacant").contains(property.getStatus())) {
+                popular.add(new PopularPropertyDTO(property, entry.get("views", Number.class).longValue()));
+                if (popular.size() == limit) {
+                    break;
+                }
+            }
+        }
+        logger.info("[PropertyViewServiceImpl] Ranked {} popular properties over {} days", popular.size(), days);
+        List<PopularPropertyDTO> result = List.copyOf(popular);
+        popularCache.put(cacheKey, result);
+        return result;
+    }
+
+    private record RollupKey(String propertyId, LocalDateTime hour) {}
+}
@@ -0,0 +1,75 @@
+package com.rentalconnects.backend.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.rentalconnects.backend.model.SavedSearch;
+import com.rentalconnects.backend.repository.SavedSearchRepository;
+import com.rentalconnects.backend.search.SavedSearchMatcher;
+import com.rentalconnects.backend.service.SavedSearchService;
+
+/**
+ * Implementation of SavedSearchService. Keeps the in-memory matcher in step with the
+ * saved_searches collection so new listings are matched as soon as a search is saved.
+ */
+@Service
+public class SavedSearchServiceImpl implements SavedSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavedSearchServiceImpl.class);
+
+    private static final int MAX_SAVED_SEARCHES_PER_TENANT = 20;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatcher savedSearchMatcher;
+
+    public SavedSearchServiceImpl(SavedSearchRepository savedSearchRepository, SavedSearchMatcher savedSearchMatcher) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.savedSearchMatcher = savedSearchMatcher;
+    }
+
+    @Override
+    public SavedSearch createSavedSearch(String tenantId, SavedSearch savedSearch) {
+        if (tenantId == null || savedSearch == null) {
+            throw new IllegalArgumentException("Tenant ID and saved search cannot be null");
+        }
+        if (savedSearch.getName() == null || savedSearch.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Name is required");
+        }
+        if (savedSearch.getPriceMin() != null && savedSearch.getPriceMax() != null
+                && savedSearch.getPriceMin() > savedSearch.getPriceMax()) {
+            throw new IllegalArgumentException("Minimum price cannot exceed maximum price");
+        }
+        if (savedSearchRepository.countByTenantId(tenantId) >= MAX_SAVED_SEARCHES_PER_TENANT) {
+            throw new IllegalArgumentException("A tenant can save at most " + MAX_SAVED_SEARCHES_PER_TENANT + " searches");
+        }
+        savedSearch.setId(null);
+        savedSearch.setTenantId(tenantId);
+        savedSearch.setName(savedSearch.getName().trim());
+        savedSearch.setCreatedAt(LocalDateTime.now());
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        savedSearchMatcher.register(saved);
+        logger.info("Saved search {} for tenant {}", saved.getId(), tenantId);
+        return saved;
+    }
+
+    @Override
+    public List<SavedSearch> getSavedSearches(String tenantId) {
+        return savedSearchRepository.findByTenantId(tenantId);
+    }
+
+    @Override
+    public void deleteSavedSearch(String id, String tenantId) {
+        SavedSearch savedSearch = savedSearchRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Saved search not found: " + id));
+        if (!savedSearch.getTenantId().equals(tenantId)) {
+            throw new SecurityException("Unauthorized to delete this saved search");
+        }
+        savedSearchRepository.deleteById(id);
+        savedSearchMatcher.unregister(id);
+        logger.info("Deleted saved search {} for tenant {}", id, tenantId);
+    }
+}
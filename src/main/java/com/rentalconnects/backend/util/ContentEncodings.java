@@ -0,0 +1,23 @@
+package com.rentalconnects.backend.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Accept-Encoding negotiation shared by the endpoints that compress their responses.
+ */
+public final class ContentEncodings {
+
+    private ContentEncodings() {
+    }
+
+    /**
+     * Whether an Accept-Encoding header value allows a gzip response. A gzip coding with a
+     * zero q-value ({@code gzip;q=0}) explicitly refuses it.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.trim().toLowerCase(Locale.ROOT))
+                .anyMatch(coding -> coding.equals("gzip") || (coding.startsWith("gzip;") && !coding.matches("gzip;\\s*q=0(\\.0*)?")));
+    }
+}
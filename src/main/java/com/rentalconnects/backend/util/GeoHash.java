@@ -0,0 +1,81 @@
+package com.rentalconnects.backend.util;
+
+/**
+ * Geohash encoding helpers. A geohash prefix identifies a rectangular grid cell,
+ * so truncating a stored hash groups nearby points into progressively larger cells.
+ */
+public final class GeoHash {
+
+    /** Precision stored on properties (cells of roughly 5 m x 5 m). */
+    public static final int STORED_PRECISION = 9;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {}
+
+    /**
+     * Encodes a coordinate as a geohash.
+     *
+     * @param latitude  Latitude in degrees.
+     * @param longitude Longitude in degrees.
+     * @param precision Number of characters, between 1 and 12.
+     * @return The geohash string.
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > 12) {
+            throw new IllegalArgumentException("Geohash precision must be between 1 and 12");
+        }
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean longitudeBit = true;
+        int bits = 0;
+        int value = 0;
+        while (hash.length() < precision) {
+            if (longitudeBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    value = (value << 1) | 1;
+                    minLng = mid;
+                } else {
+                    value <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    value = (value << 1) | 1;
+                    minLat = mid;
+                } else {
+                    value <<= 1;
+                    maxLat = mid;
+                }
+            }
+            longitudeBit = !longitudeBit;
+            if (++bits == 5) {
+                hash.append(BASE32[value]);
+                bits = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Maps a web-map zoom level to the geohash prefix length used for clustering,
+     * keeping the number of cells in a viewport roughly constant.
+     *
+     * @param zoom Map zoom level (0 = whole world).
+     * @return Prefix length between 1 and 8.
+     */
+    public static int precisionForZoom(int zoom) {
+        if (zoom <= 2) return 1;
+        if (zoom <= 5) return 2;
+        if (zoom <= 7) return 3;
+        if (zoom <= 10) return 4;
+        if (zoom <= 12) return 5;
+        if (zoom <= 15) return 6;
+        if (zoom <= 17) return 7;
+        return 8;
+    }
+}
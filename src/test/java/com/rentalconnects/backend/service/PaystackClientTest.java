@@ -0,0 +1,131 @@
+package com.rentalconnects.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import com.rentalconnects.backend.exception.ServiceUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Timeouts, circuit breaking and the bulkhead of the Paystack client, against a local HTTP
+ * server standing in for Paystack.
+ */
+class PaystackClientTest {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON = new ParameterizedTypeReference<>() {};
+
+    private final CountDownLatch releaseSlow = new CountDownLatch(1);
+    private final CountDownLatch slowEntered = new CountDownLatch(1);
+    private final AtomicInteger errorCalls = new AtomicInteger();
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 200));
+        server.createContext("/error", exchange -> {
+            errorCalls.incrementAndGet();
+            respond(exchange, 503);
+        });
+        server.createContext("/slow", exchange -> {
+            slowEntered.countDown();
+            try {
+                releaseSlow.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlow.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void readTimeoutIsReportedAsUnavailable() {
+        PaystackClient client = client(100, 20, 5);
+
+        assertThrows(ServiceUnavailableException.class, () -> call(client, "/slow"));
+    }
+
+    @Test
+    void repeatedServerErrorsOpenTheCircuit() {
+        PaystackClient client = client(5000, 20, 2);
+
+        assertThrows(HttpServerErrorException.class, () -> call(client, "/error"));
+        assertThrows(HttpServerErrorException.class, () -> call(client, "/error"));
+        assertThrows(ServiceUnavailableException.class, () -> call(client, "/error"));
+        assertThrows(ServiceUnavailableException.class, () -> call(client, "/ok"));
+        assertEquals(2, errorCalls.get());
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverTheLimit() throws Exception {
+        PaystackClient client = client(5000, 1, 5);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> inFlight = caller.submit(() -> call(client, "/slow"));
+            assertTrue(slowEntered.await(5, TimeUnit.SECONDS));
+
+            assertThrows(ServiceUnavailableException.class, () -> call(client, "/ok"));
+
+            releaseSlow.countDown();
+            inFlight.get(5, TimeUnit.SECONDS);
+            assertEquals(HttpStatus.OK, call(client, "/ok"));
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    private static PaystackClient client(long readTimeoutMillis, int maxConcurrentCalls, int failureThreshold) {
+        return new PaystackClient(new SimpleMeterRegistry(), 1000, readTimeoutMillis, maxConcurrentCalls, 50,
+                failureThreshold, 30000);
+    }
+
+    private HttpStatus call(PaystackClient client, String path) {
+        return HttpStatus.valueOf(client.exchange("test", baseUrl + path, HttpMethod.GET, HttpEntity.EMPTY, JSON)
+                .getStatusCode().value());
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
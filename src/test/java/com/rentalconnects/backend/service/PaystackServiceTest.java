@@ -0,0 +1,118 @@
+package com.rentalconnects.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.rentalconnects.backend.model.Payment;
+import com.rentalconnects.backend.model.PaystackWebhookEvent;
+import com.rentalconnects.backend.repository.PaymentRepository;
+import com.rentalconnects.backend.repository.PaystackWebhookEventRepository;
+
+/**
+ * Redeliveries of a Paystack reference that is already recorded in the webhook event store.
+ */
+class PaystackServiceTest {
+
+    private static final String REFERENCE = "PAY-1";
+    private static final Map<String, Object> SUCCESS = Map.of("event", "charge.success", "data", Map.of(
+            "reference", REFERENCE, "status", "success", "metadata", Map.of("payment_id", "p1")));
+
+    private static final Map<String, Object> FAILED = Map.of("event", "charge.failed", "data", Map.of(
+            "reference", REFERENCE, "status", "failed", "metadata", Map.of("payment_id", "p1")));
+
+    private PaymentRepository paymentRepository;
+    private PaystackWebhookEventRepository webhookEventRepository;
+    private MongoTemplate mongoTemplate;
+    private LedgerService ledgerService;
+    private PaystackService paystackService;
+
+    @BeforeEach
+    void setUp() {
+        webhookEventRepository = mock(PaystackWebhookEventRepository.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        ledgerService = mock(LedgerService.class);
+        paymentRepository = mock(PaymentRepository.class);
+        paystackService = new PaystackService(paymentRepository, webhookEventRepository, mongoTemplate,
+                mock(NotificationService.class), mock(TransactionService.class), ledgerService, mock(PaystackClient.class));
+        ReflectionTestUtils.setField(paystackService, "processingGraceMillis", 120000L);
+        when(webhookEventRepository.insert(any(PaystackWebhookEvent.class)))
+                .thenThrow(new DuplicateKeyException("duplicate reference"));
+    }
+
+    @Test
+    void duplicateOfProcessedReferenceIsIgnored() {
+        when(webhookEventRepository.findById(REFERENCE)).thenReturn(Optional.of(event(Payment.STATUS_COMPLETED)));
+
+        paystackService.processPaystackCallback(SUCCESS);
+
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Payment.class));
+    }
+
+    @Test
+    void duplicateOfReferenceStillInGracePeriodIsRetried() {
+        when(webhookEventRepository.findById(REFERENCE)).thenReturn(Optional.of(event(null)));
+
+        assertThrows(RuntimeException.class, () -> paystackService.processPaystackCallback(SUCCESS));
+
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Payment.class));
+    }
+
+    @Test
+    void duplicateOfAbandonedReferenceSettlesThePayment() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(PaystackWebhookEvent.class)))
+                .thenReturn(event(null));
+        Payment payment = new Payment();
+        payment.setId("p1");
+        payment.setStatus(Payment.STATUS_COMPLETED);
+        payment.setPaystackReference(REFERENCE);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Payment.class)))
+                .thenReturn(payment);
+
+        paystackService.processPaystackCallback(SUCCESS);
+
+        verify(ledgerService).recordPaymentReceived(payment);
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(PaystackWebhookEvent.class));
+    }
+
+    @Test
+    void duplicateOfAbandonedFailureVoidsTheChargeOfThePaymentItFailed() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(PaystackWebhookEvent.class)))
+                .thenReturn(event(null));
+        // The abandoned attempt already marked the payment FAILED, so the conditional update matches nothing.
+        Payment payment = new Payment();
+        payment.setId("p1");
+        payment.setStatus(Payment.STATUS_FAILED);
+        payment.setPaystackReference(REFERENCE);
+        when(paymentRepository.findById("p1")).thenReturn(Optional.of(payment));
+
+        paystackService.processPaystackCallback(FAILED);
+
+        verify(ledgerService).recordPaymentVoided(payment);
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(PaystackWebhookEvent.class));
+    }
+
+    private static PaystackWebhookEvent event(String outcome) {
+        PaystackWebhookEvent event = new PaystackWebhookEvent(REFERENCE, "p1", "success");
+        event.setOutcome(outcome);
+        return event;
+    }
+}
@@ -0,0 +1,158 @@
+package com.rentalconnects.backend.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.rentalconnects.backend.model.LeaseBalance;
+import com.rentalconnects.backend.model.LedgerEntry;
+import com.rentalconnects.backend.model.Payment;
+import com.rentalconnects.backend.repository.LeaseBalanceRepository;
+import com.rentalconnects.backend.repository.LeaseRepository;
+import com.rentalconnects.backend.repository.LedgerEntryRepository;
+
+/**
+ * Follows a lease balance through invoices that fail, are retried or amended, and through ad-hoc payments. MongoDB is mocked: the
+ * ledger is the list of inserted entries, and the balance is the sum of the $inc updates sent
+ * to the lease balance.
+ */
+class LedgerServiceImplTest {
+
+    private static final double RENT = 1000.0;
+
+    private final List<LedgerEntry> ledger = new ArrayList<>();
+    private double balance;
+    private LedgerServiceImpl ledgerService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        BulkOperations entryOps = mock(BulkOperations.class);
+        BulkOperations balanceOps = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(LedgerEntry.class))).thenReturn(entryOps);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(LeaseBalance.class))).thenReturn(balanceOps);
+        doAnswer(invocation -> {
+            ledger.addAll((List<LedgerEntry>) invocation.getArgument(0));
+            return entryOps;
+        }).when(entryOps).insert(anyList());
+        doAnswer(invocation -> {
+            Document inc = ((Update) invocation.getArgument(1)).getUpdateObject().get("$inc", Document.class);
+            balance += ((Number) inc.get("balance")).doubleValue();
+            return balanceOps;
+        }).when(balanceOps).upsert(any(Query.class), any(Update.class));
+        when(mongoTemplate.find(any(Query.class), eq(LedgerEntry.class))).thenAnswer(invocation -> {
+            Document reference = (Document) ((Query) invocation.getArgument(0)).getQueryObject().get("reference");
+            Collection<?> references = (Collection<?>) reference.get("$in");
+            return ledger.stream().filter(entry -> references.contains(entry.getReference())).collect(Collectors.toList());
+        });
+        ledgerService = new LedgerServiceImpl(mongoTemplate, mock(LedgerEntryRepository.class),
+                mock(LeaseBalanceRepository.class), mock(LeaseRepository.class), 300000);
+    }
+
+    @Test
+    void failedPaymentRetriedToCompletionLeavesNothingOwed() {
+        Payment payment = payment("p1", Payment.STATUS_PENDING);
+        ledgerService.recordCharges(List.of(payment));
+        assertEquals(RENT, balance);
+
+        payment.setStatus(Payment.STATUS_FAILED);
+        ledgerService.recordPaymentVoided(payment);
+        assertEquals(0.0, balance);
+
+        payment.setStatus(Payment.STATUS_COMPLETED);
+        ledgerService.recordPaymentReceived(payment);
+        assertEquals(0.0, balance);
+        assertEquals(List.of("charge:p1", "void:p1", "reinstate:p1", "payment:p1"), references());
+    }
+
+    @Test
+    void failedPaymentRetriedAsNewPaymentIsChargedOnce() {
+        Payment failed = payment("p1", Payment.STATUS_PENDING);
+        ledgerService.recordCharges(List.of(failed));
+        failed.setStatus(Payment.STATUS_FAILED);
+        ledgerService.recordPaymentVoided(failed);
+
+        Payment retry = payment("p2", Payment.STATUS_PENDING);
+        ledgerService.recordCharges(List.of(retry));
+        assertEquals(RENT, balance);
+
+        retry.setStatus(Payment.STATUS_COMPLETED);
+        ledgerService.recordPaymentReceived(retry);
+        assertEquals(0.0, balance);
+    }
+
+    @Test
+    void invoiceCreatedFailedIsChargedWhenItCompletes() {
+        // Created as FAILED, so no charge was recorded.
+        Payment payment = payment("p1", Payment.STATUS_COMPLETED);
+        ledgerService.recordPaymentReceived(payment);
+        assertEquals(0.0, balance);
+        assertEquals(List.of("charge:p1", "payment:p1"), references());
+    }
+
+    @Test
+    void adHocPaymentIsOnlyRecordedWhenItCompletes() {
+        Payment payment = payment("p1", Payment.STATUS_PENDING);
+        payment.setPeriod(null);
+        payment.setDueDate(null);
+        ledgerService.recordCharges(List.of(payment));
+        payment.setStatus(Payment.STATUS_FAILED);
+        ledgerService.recordPaymentVoided(payment);
+        assertEquals(List.of(), references());
+
+        payment.setStatus(Payment.STATUS_COMPLETED);
+        ledgerService.recordPaymentReceived(payment);
+        assertEquals(-RENT, balance);
+        assertEquals(List.of("payment:p1"), references());
+    }
+
+    @Test
+    void amendedInvoiceIsChargedItsNewAmount() {
+        Payment payment = payment("p1", Payment.STATUS_PENDING);
+        ledgerService.recordCharges(List.of(payment));
+
+        payment.setAmount(RENT - 200);
+        ledgerService.recordChargeAmended(payment, RENT);
+        assertEquals(RENT - 200, balance);
+
+        payment.setStatus(Payment.STATUS_COMPLETED);
+        ledgerService.recordPaymentReceived(payment);
+        assertEquals(0.0, balance);
+    }
+
+    private List<String> references() {
+        return ledger.stream().map(LedgerEntry::getReference).collect(Collectors.toList());
+    }
+
+    private static Payment payment(String id, String status) {
+        Payment payment = new Payment();
+        payment.setId(id);
+        payment.setLeaseId("lease-1");
+        payment.setLandlordId("landlord-1");
+        payment.setTenantId("tenant-1");
+        payment.setAmount(RENT);
+        payment.setStatus(status);
+        payment.setPeriod("2026-10");
+        payment.setDueDate(LocalDate.of(2026, 10, 1));
+        return payment;
+    }
+}